@@ -0,0 +1,31 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// A count of things that have happened, which any number of threads may increment at once without contending
+// or allocating
+public class Counter implements CounterMBean {
+    private final LongAdder count;
+
+    // EFFECTS: constructs a counter at 0
+    Counter() {
+        this.count = new LongAdder();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds 1 to the count
+    public void increment() {
+        this.count.increment();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds n to the count
+    public void add(long n) {
+        this.count.add(n);
+    }
+
+    @Override
+    public long getCount() {
+        return this.count.sum();
+    }
+}
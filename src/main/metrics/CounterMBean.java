@@ -0,0 +1,8 @@
+package metrics;
+
+// The management interface of a Counter, as published over JMX
+public interface CounterMBean {
+
+    // EFFECTS: returns the number of times the counter has been incremented
+    long getCount();
+}
@@ -0,0 +1,18 @@
+package metrics;
+
+import java.util.function.LongSupplier;
+
+// A value that is read when asked for, such as the size of something, rather than recorded as it changes
+public class Gauge implements GaugeMBean {
+    private final LongSupplier value;
+
+    // EFFECTS: constructs a gauge whose value is read from value
+    Gauge(LongSupplier value) {
+        this.value = value;
+    }
+
+    @Override
+    public long getValue() {
+        return this.value.getAsLong();
+    }
+}
@@ -0,0 +1,8 @@
+package metrics;
+
+// The management interface of a Gauge, as published over JMX
+public interface GaugeMBean {
+
+    // EFFECTS: returns the current value of the gauge
+    long getValue();
+}
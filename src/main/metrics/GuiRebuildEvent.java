@@ -0,0 +1,44 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// A Java Flight Recorder event for replacing the panels in the window: constructing them, then laying out the
+// window with pack()
+@Name("MatchingGame.GuiRebuild")
+@Label("GUI Rebuild")
+@Category({"Matching Game", "GUI"})
+@Description("Construction of new panels and layout of the window")
+public class GuiRebuildEvent extends Event {
+    @Label("Panel")
+    private String panel;
+
+    @Label("Board Size")
+    private int boardSize;
+
+    @Label("Construction Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long constructionNanos;
+
+    @Label("Layout Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long packNanos;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and, if it is being recorded, records it with the name of the panel shown, the board
+    //          size, and the time spent constructing panels and in pack()
+    public void finish(String panel, int boardSize, long constructionNanos, long packNanos) {
+        end();
+        if (shouldCommit()) {
+            this.panel = panel;
+            this.boardSize = boardSize;
+            this.constructionNanos = constructionNanos;
+            this.packNanos = packNanos;
+            commit();
+        }
+    }
+}
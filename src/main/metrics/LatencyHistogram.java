@@ -0,0 +1,130 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// A histogram of latencies in nanoseconds that any number of threads may record into at once without locking or
+// allocating. Latencies fall into log-linear buckets: each power of two is split into SUB_BUCKETS equal buckets,
+// so every latency is kept to within 1/SUB_BUCKETS of its value, from 0 up to Long.MAX_VALUE.
+public class LatencyHistogram implements LatencyHistogramMBean {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUM_BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets;    // number of latencies recorded in each bucket
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final LongAccumulator max;
+
+    // EFFECTS: constructs an empty histogram
+    LatencyHistogram() {
+        this.buckets = new AtomicLongArray(NUM_BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records a latency of nanos nanoseconds; a negative latency is recorded as 0
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        this.buckets.incrementAndGet(bucketOf(latency));
+        this.count.increment();
+        this.sum.add(latency);
+        this.max.accumulate(latency);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the time from startNanos (a reading of System.nanoTime()) until now, and returns now
+    public long recordSince(long startNanos) {
+        long now = System.nanoTime();
+        record(now - startNanos);
+        return now;
+    }
+
+    @Override
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        long n = this.count.sum();
+        return n == 0 ? 0 : (double) this.sum.sum() / n;
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return this.max.get();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return getPercentile(50);
+    }
+
+    @Override
+    public long getP90Nanos() {
+        return getPercentile(90);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return getPercentile(99);
+    }
+
+    // REQUIRES: 0 <= percentile <= 100
+    // EFFECTS: returns the smallest latency that at least percentile percent of the recorded latencies are
+    //          no greater than, as the upper bound of its bucket (but no more than the largest recorded latency),
+    //          or 0 if none has been recorded
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            counts[i] = this.buckets.get(i);
+            total = total + counts[i];
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen = seen + counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            this.buckets.set(i, 0);
+        }
+        this.count.reset();
+        this.sum.reset();
+        this.max.reset();
+    }
+
+    // REQUIRES: latency >= 0
+    // EFFECTS: returns the bucket that latency falls in
+    static int bucketOf(long latency) {
+        if (latency < SUB_BUCKETS) {
+            return (int) latency;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(latency);
+        int subBucket = (int) (latency >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // EFFECTS: returns the largest latency that falls in the given bucket
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
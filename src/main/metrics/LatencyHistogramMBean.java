@@ -0,0 +1,27 @@
+package metrics;
+
+// The management interface of a LatencyHistogram, as published over JMX
+public interface LatencyHistogramMBean {
+
+    // EFFECTS: returns the number of latencies recorded
+    long getCount();
+
+    // EFFECTS: returns the mean latency recorded, in nanoseconds, or 0 if none has been recorded
+    double getMeanNanos();
+
+    // EFFECTS: returns the largest latency recorded, in nanoseconds, or 0 if none has been recorded
+    long getMaxNanos();
+
+    // EFFECTS: returns the median latency recorded, in nanoseconds, to within 1/8
+    long getP50Nanos();
+
+    // EFFECTS: returns the 90th percentile latency recorded, in nanoseconds, to within 1/8
+    long getP90Nanos();
+
+    // EFFECTS: returns the 99th percentile latency recorded, in nanoseconds, to within 1/8
+    long getP99Nanos();
+
+    // MODIFIES: this
+    // EFFECTS: forgets every latency recorded
+    void reset();
+}
@@ -0,0 +1,37 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// A Java Flight Recorder event for reading one game from a file
+@Name("MatchingGame.Load")
+@Label("Load")
+@Category({"Matching Game", "Persistence"})
+@Description("Reading of a game from a file")
+public class LoadEvent extends Event {
+    @Label("Board Size")
+    @Description("Number of cards in the game read, or 0 if it could not be read")
+    private int boardSize;
+
+    @Label("Format")
+    private String format;
+
+    @Label("Source")
+    private String source;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and, if it is being recorded, records it with the given save format, source file
+    //          and board size (0 if the game could not be read)
+    public void finish(String format, String source, int boardSize) {
+        end();
+        if (shouldCommit()) {
+            this.format = format;
+            this.source = source;
+            this.boardSize = boardSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// The registry of every metric in the application, by name. Like the EventLog there is a single instance.
+// Metrics are looked up once, when their owner is set up, and then recorded into directly, which never locks
+// or allocates. Once published, every metric (including those registered later) can be watched over JMX, e.g.
+// with jconsole, as MatchingGame:type=<kind>,name=<name>.
+public class MetricsRegistry {
+    public static final String DOMAIN = "MatchingGame";
+
+    private static final MetricsRegistry theRegistry = new MetricsRegistry();
+    private final Map<String, Object> metrics;    // every metric by its JMX object name
+    private volatile MBeanServer server;          // server metrics are published to, or null if not published
+
+    // EFFECTS: constructs an empty registry that is not published
+    private MetricsRegistry() {
+        this.metrics = new ConcurrentHashMap<>();
+        this.server = null;
+    }
+
+    // EFFECTS: returns the only registry
+    public static MetricsRegistry getInstance() {
+        return theRegistry;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the counter with the given name, registering a new one if there is none
+    public Counter counter(String name) {
+        return (Counter) this.metrics.computeIfAbsent(objectName("Counter", name), key -> publish(key,
+                new Counter()));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the latency histogram with the given name, registering a new one if there is none
+    public LatencyHistogram histogram(String name) {
+        return (LatencyHistogram) this.metrics.computeIfAbsent(objectName("LatencyHistogram", name),
+                key -> publish(key, new LatencyHistogram()));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers a gauge with the given name whose value is read from value, replacing any gauge with
+    //          that name, and returns it
+    public Gauge gauge(String name, LongSupplier value) {
+        String key = objectName("Gauge", name);
+        Gauge gauge = new Gauge(value);
+        this.metrics.put(key, gauge);
+        unpublish(key);
+        return publish(key, gauge);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: publishes every metric, now and from now on, as an MBean in the platform MBean server
+    public synchronized void publish() {
+        if (this.server == null) {
+            this.server = ManagementFactory.getPlatformMBeanServer();
+            for (Map.Entry<String, Object> entry : this.metrics.entrySet()) {
+                publish(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    // EFFECTS: returns the JMX object name of the metric of the given kind and name
+    private static String objectName(String kind, String name) {
+        return DOMAIN + ":type=" + kind + ",name=" + ObjectName.quote(name);
+    }
+
+    // EFFECTS: registers metric as an MBean under key if the registry is published, and returns metric
+    private <T> T publish(String key, T metric) {
+        MBeanServer published = this.server;
+        if (published != null) {
+            try {
+                published.registerMBean(metric, new ObjectName(key));
+            } catch (InstanceAlreadyExistsException e) {
+                // already published
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot publish metric " + key, e);
+            }
+        }
+        return metric;
+    }
+
+    // EFFECTS: unregisters the MBean under key if the registry is published and there is one
+    private void unpublish(String key) {
+        MBeanServer published = this.server;
+        if (published != null) {
+            try {
+                published.unregisterMBean(new ObjectName(key));
+            } catch (InstanceNotFoundException e) {
+                // nothing to unregister
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot unpublish metric " + key, e);
+            }
+        }
+    }
+}
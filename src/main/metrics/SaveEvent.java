@@ -0,0 +1,36 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// A Java Flight Recorder event for writing one game to a file
+@Name("MatchingGame.Save")
+@Label("Save")
+@Category({"Matching Game", "Persistence"})
+@Description("Writing of a game to a file")
+public class SaveEvent extends Event {
+    @Label("Board Size")
+    private int boardSize;
+
+    @Label("Format")
+    private String format;
+
+    @Label("Destination")
+    private String destination;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and, if it is being recorded, records it with the given save format, destination
+    //          file and board size
+    public void finish(String format, String destination, int boardSize) {
+        end();
+        if (shouldCommit()) {
+            this.format = format;
+            this.destination = destination;
+            this.boardSize = boardSize;
+            commit();
+        }
+    }
+}
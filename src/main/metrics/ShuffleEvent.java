@@ -0,0 +1,27 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// A Java Flight Recorder event for one arrangement (shuffle) of a board
+@Name("MatchingGame.Shuffle")
+@Label("Board Shuffle")
+@Category({"Matching Game", "Game"})
+@Description("Arrangement of the cards on a board")
+public class ShuffleEvent extends Event {
+    @Label("Board Size")
+    private int boardSize;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and, if it is being recorded, records it with the given board size
+    public void finish(int boardSize) {
+        end();
+        if (shouldCommit()) {
+            this.boardSize = boardSize;
+            commit();
+        }
+    }
+}
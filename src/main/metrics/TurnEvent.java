@@ -0,0 +1,32 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// A Java Flight Recorder event for the resolution of one guessed pair of cards; like every event here, it costs
+// close to nothing when no recording is on, since the JIT removes it
+@Name("MatchingGame.Turn")
+@Label("Turn")
+@Category({"Matching Game", "Game"})
+@Description("Resolution of one guessed pair of cards")
+public class TurnEvent extends Event {
+    @Label("Board Size")
+    private int boardSize;
+
+    @Label("Match")
+    private boolean match;
+
+    // MODIFIES: this
+    // EFFECTS: ends the event and, if it is being recorded, records it with the given board size and result
+    public void finish(int boardSize, boolean match) {
+        end();
+        if (shouldCommit()) {
+            this.boardSize = boardSize;
+            this.match = match;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package model;
+
+// Represents a source of identities spelled from an alphabet the way spreadsheet columns are named:
+// every single symbol first, then every pair of symbols, and so on (e.g. A, ..., Z, AA, AB, ..., ZZ, AAA, ...)
+public class AlphabetIdentities implements IdentitySource {
+    public static final AlphabetIdentities LETTERS = new AlphabetIdentities("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+    public static final AlphabetIdentities SYMBOLS = new AlphabetIdentities(
+            "\u2660\u2663\u2665\u2666\u2605\u2600\u2602\u2603\u2618\u260e\u266a\u266b\u273f\u2744\u2691\u2693");
+
+    private final int[] symbols;   // code points of the alphabet, in order
+
+    // REQUIRES: alphabet has at least 2 distinct code points
+    // EFFECTS: constructs a source of identities spelled from the code points of alphabet
+    public AlphabetIdentities(String alphabet) {
+        this.symbols = alphabet.codePoints().toArray();
+    }
+
+    @Override
+    public String identityOf(int ordinal) {
+        StringBuilder identity = new StringBuilder();
+        long n = ordinal + 1L;
+        while (n > 0) {
+            n = n - 1;
+            identity.appendCodePoint(this.symbols[(int) (n % this.symbols.length)]);
+            n = n / this.symbols.length;
+        }
+        return identity.reverse().toString();
+    }
+}
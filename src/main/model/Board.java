@@ -0,0 +1,104 @@
+package model;
+
+import java.util.List;
+
+// Represents the cards on a matching game board, indexed by location number in [1, size];
+// each card's identity is given as an ordinal into the game's list of card identities
+abstract class Board {
+    protected List<String> identities;   // the game's card identities, indexed by ordinal
+    protected int size;                  // number of locations (cards) on the board
+    protected int numUnmatched;          // number of cards on the board that have not been matched
+    protected int modCount;              // number of times the board has been changed
+
+    // EFFECTS: constructs an empty board whose identity ordinals refer to identities
+    Board(List<String> identities) {
+        this.identities = identities;
+        this.size = 0;
+        this.numUnmatched = 0;
+        this.modCount = 0;
+    }
+
+    // REQUIRES: locationNum is within [1, size] and no card has been placed there yet
+    // MODIFIES: this
+    // EFFECTS: places a card with the given identity ordinal and status at locationNum
+    abstract void place(int locationNum, int ordinal, boolean matched);
+
+    // MODIFIES: this
+    // EFFECTS: makes room for the given total number of locations; new locations are empty until placed
+    abstract void resize(int newSize);
+
+    // REQUIRES: locationNum is within [1, size]
+    // EFFECTS: returns true if the card at locationNum has been matched
+    abstract boolean isMatched(int locationNum);
+
+    // REQUIRES: locationNum is within [1, size] and the card there is unmatched
+    // MODIFIES: this
+    // EFFECTS: changes the status of the card at locationNum to matched
+    abstract void match(int locationNum);
+
+    // REQUIRES: locationNum is within [1, size] and the card there is matched
+    // MODIFIES: this
+    // EFFECTS: changes the status of the card at locationNum back to unmatched
+    abstract void unmatch(int locationNum);
+
+    // REQUIRES: both location numbers are within [1, size]
+    // EFFECTS: returns true if the cards at the two locations have the same identity
+    abstract boolean sameIdentity(int locationNum1, int locationNum2);
+
+    // REQUIRES: locationNum is within [1, size]
+    // EFFECTS: returns the identity of the card at locationNum
+    abstract String identityAt(int locationNum);
+
+    // REQUIRES: locationNum is within [1, size]
+    // EFFECTS: returns the card at locationNum
+    abstract Card cardAt(int locationNum);
+
+    // EFFECTS: returns a new array holding the identity ordinal of the card at each location, indexed by location
+    //          number (index 0 unused)
+    abstract int[] ordinals();
+
+    // REQUIRES: no cards have been matched yet
+    // MODIFIES: this
+    // EFFECTS: puts the pair of cards with identity ordinal k at locations 2k + 1 and 2k + 2, then randomly
+    //          rearranges the cards in place using seed, so the arrangement depends only on the seed and size
+    abstract void shuffle(long seed);
+
+    // EFFECTS: returns a board holding the same cards whose identity ordinals refer to identities; later changes
+    //          to either board do not change the other
+    abstract Board copy(List<String> identities);
+
+    // MODIFIES: copy
+    // EFFECTS: gives copy the same size and number of unmatched cards as this board
+    protected void copyCountsTo(Board copy) {
+        copy.size = this.size;
+        copy.numUnmatched = this.numUnmatched;
+    }
+
+    // REQUIRES: numPairs >= 0
+    // MODIFIES: this
+    // EFFECTS: appends numPairs pairs of unmatched cards to the end of the board, growing it only once;
+    //          the pairs have the identity ordinals firstOrdinal, firstOrdinal + 1, ...
+    void addPairs(int firstOrdinal, int numPairs) {
+        int locationNum = this.size;
+        resize(this.size + 2 * numPairs);
+        for (int ordinal = firstOrdinal; ordinal < firstOrdinal + numPairs; ordinal++) {
+            place(++locationNum, ordinal, false);
+            place(++locationNum, ordinal, false);
+        }
+    }
+
+    // EFFECTS: returns the number of locations on the board
+    int size() {
+        return this.size;
+    }
+
+    // EFFECTS: returns the number of unmatched cards on the board
+    int getNumUnmatched() {
+        return this.numUnmatched;
+    }
+
+    // EFFECTS: returns the number of times the board has been changed
+    int getModCount() {
+        return this.modCount;
+    }
+}
@@ -0,0 +1,7 @@
+package model;
+
+// Represents the ways a matching game can store the cards on its board
+public enum BoardStorage {
+    OBJECTS,    // one Card object per location; simplest, used for regular games
+    COMPACT     // one int identity ordinal per location plus a bitmap of matched locations; for very large games
+}
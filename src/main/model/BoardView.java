@@ -0,0 +1,55 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.function.IntFunction;
+
+// Represents a read-only, live view of the locations on a board that are matched (or unmatched),
+// in increasing order of location number, with each location mapped to an element;
+// walking the view in order costs O(1) per element
+class BoardView<E> extends AbstractList<E> {
+    private final Board board;
+    private final boolean matched;              // true if the view holds matched locations
+    private final IntFunction<E> mapper;        // maps a location number to an element of the view
+    private int lastIndex;                      // index of the element most recently looked up
+    private int lastLocationNum;                // location number of the element most recently looked up
+    private int expectedModCount;               // board modCount when lastIndex was found
+
+    // EFFECTS: constructs a view of the board's matched (or unmatched) locations mapped through mapper
+    BoardView(Board board, boolean matched, IntFunction<E> mapper) {
+        this.board = board;
+        this.matched = matched;
+        this.mapper = mapper;
+        resetCursor();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (this.expectedModCount != this.board.getModCount() || index < this.lastIndex) {
+            resetCursor();
+        }
+        while (this.lastIndex < index) {
+            this.lastLocationNum = this.lastLocationNum + 1;
+            if (this.board.isMatched(this.lastLocationNum) == this.matched) {
+                this.lastIndex = this.lastIndex + 1;
+            }
+        }
+        return this.mapper.apply(this.lastLocationNum);
+    }
+
+    @Override
+    public int size() {
+        int numUnmatched = this.board.getNumUnmatched();
+        return this.matched ? this.board.size() - numUnmatched : numUnmatched;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves the lookup cursor back to before the first location on the board
+    private void resetCursor() {
+        this.lastIndex = -1;
+        this.lastLocationNum = 0;
+        this.expectedModCount = this.board.getModCount();
+    }
+}
@@ -0,0 +1,106 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Represents a board that stores one Card object per location
+class CardBoard extends Board {
+    private Card[] cards;   // cards indexed by location number (index 0 unused)
+
+    // EFFECTS: constructs an empty board whose identity ordinals refer to identities
+    CardBoard(List<String> identities) {
+        super(identities);
+        this.cards = new Card[1];
+    }
+
+    @Override
+    void place(int locationNum, int ordinal, boolean matched) {
+        this.cards[locationNum] = new Card(this.identities.get(ordinal), locationNum, matched);
+        if (!matched) {
+            this.numUnmatched = this.numUnmatched + 1;
+        }
+        this.modCount = this.modCount + 1;
+    }
+
+    @Override
+    void resize(int newSize) {
+        this.cards = Arrays.copyOf(this.cards, newSize + 1);
+        this.size = newSize;
+    }
+
+    @Override
+    boolean isMatched(int locationNum) {
+        return this.cards[locationNum].getStatus();
+    }
+
+    @Override
+    void match(int locationNum) {
+        this.cards[locationNum].matchCard();
+        this.numUnmatched = this.numUnmatched - 1;
+        this.modCount = this.modCount + 1;
+    }
+
+    // EFFECTS: replaces the card at locationNum with an unmatched card of the same identity, since cards can only
+    //          be matched in place
+    @Override
+    void unmatch(int locationNum) {
+        this.cards[locationNum] = new Card(this.cards[locationNum].getIdentity(), locationNum, false);
+        this.numUnmatched = this.numUnmatched + 1;
+        this.modCount = this.modCount + 1;
+    }
+
+    @Override
+    boolean sameIdentity(int locationNum1, int locationNum2) {
+        return this.cards[locationNum1].getIdentity().equals(this.cards[locationNum2].getIdentity());
+    }
+
+    @Override
+    String identityAt(int locationNum) {
+        return this.cards[locationNum].getIdentity();
+    }
+
+    @Override
+    Card cardAt(int locationNum) {
+        return this.cards[locationNum];
+    }
+
+    // EFFECTS: returns the identity ordinal of each card, looked up from its identity
+    @Override
+    int[] ordinals() {
+        Map<String, Integer> ordinalOf = new HashMap<>();
+        for (int i = 0; i < this.identities.size(); i++) {
+            ordinalOf.put(this.identities.get(i), i);
+        }
+        int[] ordinals = new int[this.size + 1];
+        for (int i = 1; i <= this.size; i++) {
+            ordinals[i] = ordinalOf.get(this.cards[i].getIdentity());
+        }
+        return ordinals;
+    }
+
+    @Override
+    Board copy(List<String> identities) {
+        CardBoard copy = new CardBoard(identities);
+        copy.cards = new Card[this.cards.length];
+        for (int i = 1; i <= this.size; i++) {
+            Card c = this.cards[i];
+            copy.cards[i] = new Card(c.getIdentity(), c.getLocationNum(), c.getStatus());
+        }
+        copyCountsTo(copy);
+        return copy;
+    }
+
+    @Override
+    void shuffle(long seed) {
+        for (int i = 1; i <= this.size; i++) {
+            this.cards[i] = new Card(this.identities.get((i - 1) / 2));
+        }
+        ShuffleEngine.shuffle(this.cards, 1, this.size + 1, seed);
+        for (int i = 1; i <= this.size; i++) {
+            this.cards[i].changeLocationNum(i);
+        }
+        this.modCount = this.modCount + 1;
+    }
+}
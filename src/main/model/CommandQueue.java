@@ -0,0 +1,59 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// Represents an unbounded, lock-free queue that any number of threads may add to and a single thread takes from.
+// Each add swaps itself in as the tail with one atomic instruction and then links the old tail to it, so adding
+// never waits on another thread; the one taking thread follows the links from a stub head node. An element whose
+// link is not yet written is not seen until it is, so poll may briefly report an empty queue while an add is
+// half-way done; the adding thread always finishes the link itself
+class CommandQueue<E> {
+    private final AtomicReference<Node<E>> tail;    // most recently added node
+    private Node<E> head;                           // node before the first element; used by the taking thread only
+
+    // EFFECTS: constructs an empty queue
+    CommandQueue() {
+        Node<E> stub = new Node<>(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    // REQUIRES: element != null
+    // MODIFIES: this
+    // EFFECTS: adds element to the end of the queue; may be called from any thread
+    void offer(E element) {
+        Node<E> node = new Node<>(element);
+        tail.getAndSet(node).next = node;
+    }
+
+    // REQUIRES: called from the single taking thread only
+    // MODIFIES: this
+    // EFFECTS: removes and returns the first element of the queue, or returns null if there is none
+    E poll() {
+        Node<E> first = head.next;
+        if (first == null) {
+            return null;
+        }
+        E element = first.element;
+        first.element = null;
+        head = first;
+        return element;
+    }
+
+    // REQUIRES: called from the single taking thread only
+    // EFFECTS: returns true if poll would return null
+    boolean isEmpty() {
+        return head.next == null;
+    }
+
+    // A link in the queue
+    private static class Node<E> {
+        private E element;
+        private volatile Node<E> next;
+
+        // EFFECTS: constructs an unlinked node holding element
+        Node(E element) {
+            this.element = element;
+        }
+    }
+}
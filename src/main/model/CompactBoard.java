@@ -0,0 +1,94 @@
+package model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// Represents a board that stores one int identity ordinal per location and a bitmap of matched locations,
+// so each card costs a little over 4 bytes; cards are only created when they are looked at
+class CompactBoard extends Board {
+    private int[] ordinals;   // identity ordinals indexed by location number (index 0 unused)
+    private BitSet matched;   // bit i is set if the card at location i has been matched
+
+    // EFFECTS: constructs an empty board whose identity ordinals refer to identities
+    CompactBoard(List<String> identities) {
+        super(identities);
+        this.ordinals = new int[1];
+        this.matched = new BitSet();
+    }
+
+    @Override
+    void place(int locationNum, int ordinal, boolean matched) {
+        this.ordinals[locationNum] = ordinal;
+        this.matched.set(locationNum, matched);
+        if (!matched) {
+            this.numUnmatched = this.numUnmatched + 1;
+        }
+        this.modCount = this.modCount + 1;
+    }
+
+    @Override
+    void resize(int newSize) {
+        this.ordinals = Arrays.copyOf(this.ordinals, newSize + 1);
+        this.size = newSize;
+    }
+
+    @Override
+    boolean isMatched(int locationNum) {
+        return this.matched.get(locationNum);
+    }
+
+    @Override
+    void match(int locationNum) {
+        this.matched.set(locationNum);
+        this.numUnmatched = this.numUnmatched - 1;
+        this.modCount = this.modCount + 1;
+    }
+
+    @Override
+    void unmatch(int locationNum) {
+        this.matched.clear(locationNum);
+        this.numUnmatched = this.numUnmatched + 1;
+        this.modCount = this.modCount + 1;
+    }
+
+    @Override
+    boolean sameIdentity(int locationNum1, int locationNum2) {
+        return this.ordinals[locationNum1] == this.ordinals[locationNum2];
+    }
+
+    @Override
+    String identityAt(int locationNum) {
+        return this.identities.get(this.ordinals[locationNum]);
+    }
+
+    // EFFECTS: returns a new card holding the identity, location number and status at locationNum;
+    //          changing that card does not change the board
+    @Override
+    Card cardAt(int locationNum) {
+        return new Card(identityAt(locationNum), locationNum, isMatched(locationNum));
+    }
+
+    @Override
+    int[] ordinals() {
+        return Arrays.copyOf(this.ordinals, this.size + 1);
+    }
+
+    @Override
+    Board copy(List<String> identities) {
+        CompactBoard copy = new CompactBoard(identities);
+        copy.ordinals = this.ordinals.clone();
+        copy.matched = (BitSet) this.matched.clone();
+        copyCountsTo(copy);
+        return copy;
+    }
+
+    @Override
+    void shuffle(long seed) {
+        for (int i = 1; i <= this.size; i++) {
+            this.ordinals[i] = (i - 1) / 2;
+        }
+        ShuffleEngine.shuffle(this.ordinals, 1, this.size + 1, seed);
+        this.modCount = this.modCount + 1;
+    }
+}
@@ -0,0 +1,121 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Represents a matching game that any number of threads can play on the same board at once, such as bots racing
+// each other or players cooperating. The cards are fixed when play starts. Each location's status is a bit in an
+// atomic array of words, and a matching pair is claimed by setting the lower location's bit with compare-and-set,
+// so exactly one of the threads guessing the same pair makes the match (a pair already matched is seen with a plain
+// read, so losing threads don't fight over its cache line); the counts of guesses and matches are striped counters
+// that threads add to without contending. No method takes a lock
+public class ConcurrentMatchingGame {
+    private final List<String> cardIdentities;   // card identities in use, indexed by ordinal
+    private final int[] ordinals;                // identity ordinals indexed by location number (index 0 unused)
+    private final AtomicLongArray matched;       // bit i of word i / 64 is set if location i has been matched
+    private final LongAdder numGuesses;          // number of guesses made
+    private final LongAdder numMatches;          // number of matches made
+    private final long seed;                     // seed that the board was arranged with
+
+    // EFFECTS: constructs a game with the cards, counts and seed that game has now; later changes to either game
+    //          do not change the other
+    public ConcurrentMatchingGame(MatchingGame game) {
+        this.cardIdentities = Collections.unmodifiableList(new ArrayList<>(game.getCardIdentities()));
+        Map<String, Integer> ordinalOf = new HashMap<>();
+        for (int i = 0; i < this.cardIdentities.size(); i++) {
+            ordinalOf.put(this.cardIdentities.get(i), i);
+        }
+        int cardAmount = game.getCardAmount();
+        this.ordinals = new int[cardAmount + 1];
+        this.matched = new AtomicLongArray((cardAmount >>> 6) + 1);
+        for (int loc = 1; loc <= cardAmount; loc++) {
+            this.ordinals[loc] = ordinalOf.get(game.getIdentityAt(loc));
+            if (game.isCardMatched(loc)) {
+                claim(loc);
+            }
+        }
+        this.numGuesses = new LongAdder();
+        this.numGuesses.add(game.getNumGuesses());
+        this.numMatches = new LongAdder();
+        this.numMatches.add(game.getNumMatches());
+        this.seed = game.getSeed();
+    }
+
+    // REQUIRES: locationNum1 != locationNum2 and both are within [1, cardAmount]
+    // MODIFIES: this
+    // EFFECTS: plays one turn: counts a guess, and if the two cards are a still-unmatched matching pair, claims
+    //          them both, counts a match and returns true; returns false if they don't match or if any thread
+    //          (this one included) has already matched them. Safe to call from any number of threads at once
+    public boolean makeGuess(int locationNum1, int locationNum2) {
+        numGuesses.increment();
+        if (isCardMatched(locationNum1) || ordinals[locationNum1] != ordinals[locationNum2]) {
+            return false;
+        }
+        int lower = Math.min(locationNum1, locationNum2);
+        int upper = Math.max(locationNum1, locationNum2);
+        if (!claim(lower)) {
+            return false;
+        }
+        claim(upper);
+        numMatches.increment();
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the matched bit of locationNum; returns true if this call set it, and false if it was set already
+    private boolean claim(int locationNum) {
+        long bit = 1L << locationNum;
+        return (matched.getAndAccumulate(locationNum >>> 6, bit, (word, b) -> word | b) & bit) == 0;
+    }
+
+    // REQUIRES: locationNum is within [1, cardAmount]
+    // EFFECTS: returns true if the card at locationNum has been matched
+    public boolean isCardMatched(int locationNum) {
+        return (matched.get(locationNum >>> 6) & (1L << locationNum)) != 0;
+    }
+
+    // REQUIRES: locationNum is within [1, cardAmount]
+    // EFFECTS: returns the identity of the card at locationNum, whether or not it has been matched
+    public String getIdentityAt(int locationNum) {
+        return cardIdentities.get(ordinals[locationNum]);
+    }
+
+    // EFFECTS: returns true if every pair has been matched
+    public boolean checkGameOver() {
+        return numMatches.sum() * 2 >= getCardAmount();
+    }
+
+    // EFFECTS: returns the total number of cards in the game
+    public int getCardAmount() {
+        return ordinals.length - 1;
+    }
+
+    // EFFECTS: returns the number of guesses made so far; guesses being made while this is called may or may not
+    //          be counted
+    public long getNumGuesses() {
+        return numGuesses.sum();
+    }
+
+    // EFFECTS: returns the number of matches made so far; matches being made while this is called may or may not
+    //          be counted
+    public long getNumMatches() {
+        return numMatches.sum();
+    }
+
+    // EFFECTS: returns a regular game with the cards and counts this game has now, kept in the given storage, for
+    //          saving or for continuing on one thread; call it once no thread is guessing to get an exact copy
+    public MatchingGame toMatchingGame(BoardStorage storage) {
+        BitSet matchedLocations = new BitSet(ordinals.length);
+        for (int loc = 1; loc < ordinals.length; loc++) {
+            matchedLocations.set(loc, isCardMatched(loc));
+        }
+        return new MatchingGame(cardIdentities, ordinals.clone(), matchedLocations, (int) getNumGuesses(),
+                (int) getNumMatches(), seed, storage);
+    }
+}
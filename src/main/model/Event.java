@@ -1,45 +1,98 @@
 package model;
 
-import java.util.Calendar;
 import java.util.Date;
 
 
 /**
  * Represents an alarm system event.
+ * An event keeps its message pattern and the values to put into it, and only
+ * builds its description the first time the description is read, so logging
+ * an event that is never read costs no string building.
  */
 public class Event {
     private static final int HASH_CONSTANT = 13;
-    private Date dateLogged;
+    /** wall-clock time, in nanoseconds since the epoch, at which System.nanoTime() was 0 */
+    private static final long CLOCK_BASE_NANOS = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+    private final long timeNanos;
+    private final String pattern;
+    private final Object[] args;
     private String description;
-	
-	/**
-	 * Creates an event with the given description
-	 * and the current date/time stamp.
-	 * @param description  a description of the event
-	 */
+
+    /**
+     * Creates an event with the given description
+     * and the current date/time stamp.
+     * @param description  a description of the event
+     */
     public Event(String description) {
-        dateLogged = Calendar.getInstance().getTime();
-        this.description = description;
+        this(description, (Object[]) null);
+    }
+
+    /**
+     * Creates an event whose description is pattern with each "{}" replaced,
+     * in order, by the next of args, and the current date/time stamp.
+     * The description is not built until it is first read.
+     * @param pattern  a description of the event with a "{}" for each arg
+     * @param args  the values to put into the description
+     */
+    public Event(String pattern, Object... args) {
+        this.timeNanos = CLOCK_BASE_NANOS + System.nanoTime();
+        this.pattern = pattern;
+        this.args = args;
+        this.description = args == null ? pattern : null;
     }
-	
-	/**
-	 * Gets the date of this event (includes time).
-	 * @return  the date of the event
-	 */
+
+    /**
+     * Gets the date of this event (includes time).
+     * @return  the date of the event
+     */
     public Date getDate() {
-        return dateLogged;
+        return new Date(timeNanos / 1_000_000L);
+    }
+
+    /**
+     * Gets the time of this event, read from a monotonic nanosecond clock.
+     * @return  the time of the event, in nanoseconds since the epoch
+     */
+    public long getTimeNanos() {
+        return timeNanos;
     }
-	
-	/**
-	 * Gets the description of this event.
-	 * @return  the description of the event
-	 */
+
+    /**
+     * Gets the description of this event, building it if it has not been built yet.
+     * @return  the description of the event
+     */
     public String getDescription() {
-        return description;
+        String built = description;
+        if (built == null) {
+            built = format(pattern, args);
+            description = built;
+        }
+        return built;
+    }
+
+    /**
+     * Replaces each "{}" in pattern, in order, by the next of args;
+     * placeholders with no arg left are kept as they are.
+     * @param pattern  the text with placeholders
+     * @param args  the values to put into the text
+     * @return  the text with the values in place
+     */
+    private static String format(String pattern, Object[] args) {
+        StringBuilder text = new StringBuilder(pattern.length() + 16 * args.length);
+        int from = 0;
+        for (Object arg : args) {
+            int at = pattern.indexOf("{}", from);
+            if (at < 0) {
+                break;
+            }
+            text.append(pattern, from, at).append(arg);
+            from = at + 2;
+        }
+        return text.append(pattern, from, pattern.length()).toString();
     }
 
     @Override
-	public boolean equals(Object other) {
+    public boolean equals(Object other) {
         if (other == null) {
             return false;
         }
@@ -49,17 +102,17 @@ public class Event {
 
         Event otherEvent = (Event) other;
 
-        return (this.dateLogged.equals(otherEvent.dateLogged)
-                && this.description.equals(otherEvent.description));
+        return (this.timeNanos == otherEvent.timeNanos
+                && this.getDescription().equals(otherEvent.getDescription()));
     }
 
     @Override
-	public int hashCode() {
-        return (HASH_CONSTANT * dateLogged.hashCode() + description.hashCode());
+    public int hashCode() {
+        return (HASH_CONSTANT * Long.hashCode(timeNanos) + getDescription().hashCode());
     }
 
     @Override
-	public String toString() {
-        return dateLogged.toString() + "\n" + description;
+    public String toString() {
+        return getDate().toString() + "\n" + getDescription();
     }
 }
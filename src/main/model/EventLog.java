@@ -3,57 +3,138 @@ package model;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Represents a log of alarm system events.
  * We use the Singleton Design Pattern to ensure that there is only
  * one EventLog in the system and that the system has global access
  * to the single instance of the EventLog.
+ * The log keeps the latest CAPACITY events in a ring buffer that any number
+ * of threads may log to and read from at once, without locks; once it is
+ * full, each new event overwrites the oldest one.
  */
 public class EventLog implements Iterable<Event> {
-	/** the only EventLog in the system (Singleton Design Pattern) */
-    private static EventLog theLog;
-    private Collection<Event> events;
-	
-	/** 
-	 * Prevent external construction.
-	 * (Singleton Design Pattern).
-	 */
+    /** number of events the log keeps; a power of two */
+    public static final int CAPACITY = 1 << 16;
+    private static final int MASK = CAPACITY - 1;
+    private static final long WRITING = -1;
+
+    /** the only EventLog in the system (Singleton Design Pattern) */
+    private static final EventLog theLog = new EventLog();
+    /** the event with sequence number s is kept in slot s % CAPACITY */
+    private final AtomicReferenceArray<Event> slots;
+    /** sequence number of the event in each slot, or WRITING while the slot is being written */
+    private final AtomicLongArray sequences;
+    /** sequence number the next event will get */
+    private final AtomicLong next;
+    /** sequence number of the first event logged since the log was last cleared */
+    private final AtomicLong first;
+
+    /**
+     * Prevent external construction.
+     * (Singleton Design Pattern).
+     */
     private EventLog() {
-        events = new ArrayList<Event>();
-    }
-	
-	/**
-	 * Gets instance of EventLog - creates it
-	 * if it doesn't already exist.
-	 * (Singleton Design Pattern)
-	 * @return  instance of EventLog
-	 */
-    public static EventLog getInstance() {
-        if (theLog == null) {
-            theLog = new EventLog();
+        slots = new AtomicReferenceArray<>(CAPACITY);
+        sequences = new AtomicLongArray(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, WRITING);
         }
+        next = new AtomicLong();
+        first = new AtomicLong();
+    }
+
+    /**
+     * Gets instance of EventLog.
+     * (Singleton Design Pattern)
+     * @return  instance of EventLog
+     */
+    public static EventLog getInstance() {
         return theLog;
     }
-	
-	/**
-	 * Adds an event to the event log.
-	 * @param e the event to be added
-	 */
+
+    /**
+     * Adds an event to the event log, overwriting the oldest event if the log is full.
+     * Safe to call from any thread.
+     * @param e the event to be added
+     */
     public void logEvent(Event e) {
-        events.add(e);
+        long sequence = next.getAndIncrement();
+        int slot = (int) (sequence & MASK);
+        sequences.set(slot, WRITING);
+        slots.set(slot, e);
+        sequences.set(slot, sequence);
     }
-	
-	/**
-	 * Clears the event log and logs the event.
-	 */
+
+    /**
+     * Clears the event log and logs the event.
+     */
     public void clear() {
-        events.clear();
+        first.set(next.get());
         logEvent(new Event("Event log cleared."));
     }
 
+    /**
+     * Gets the number of events the log holds.
+     * @return  the number of events logged since the log was cleared, up to CAPACITY
+     */
+    public int size() {
+        long end = next.get();
+        return (int) (end - Math.max(first.get(), end - CAPACITY));
+    }
+
+    /**
+     * Gets the sequence number the next event logged will get; every event
+     * ever logged has a smaller one, whether or not the log was cleared since.
+     * @return  the number of events ever logged
+     */
+    public long getNextSequence() {
+        return next.get();
+    }
+
+    /**
+     * Adds to into, oldest first, the events logged with sequence numbers from
+     * fromSequence onwards that are still in the log, stopping at the first event
+     * that another thread has not finished logging; events overwritten before they
+     * are read are left out. Ignores clearing, so a reader that passes back the
+     * result each time sees every event that was not overwritten, exactly once.
+     * @param fromSequence  the sequence number of the first event wanted
+     * @param into  the collection to add the events to
+     * @return  the sequence number to pass on the next call
+     */
+    public long readFrom(long fromSequence, Collection<? super Event> into) {
+        long end = next.get();
+        long sequence = Math.max(fromSequence, end - CAPACITY);
+        for (; sequence < end; sequence++) {
+            int slot = (int) (sequence & MASK);
+            long found = sequences.get(slot);
+            if (found == sequence) {
+                Event e = slots.get(slot);
+                found = sequences.get(slot);
+                if (found == sequence) {
+                    into.add(e);
+                }
+            }
+            if (found < sequence) {
+                break;
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Gets the events in the log, oldest first, as they were when this was called;
+     * events overwritten while reading are left out.
+     * @return  an iterator over a snapshot of the log
+     */
     @Override
-	public Iterator<Event> iterator() {
-        return events.iterator();
+    public Iterator<Event> iterator() {
+        List<Event> snapshot = new ArrayList<>();
+        readFrom(first.get(), snapshot);
+        return snapshot.iterator();
     }
 }
@@ -0,0 +1,9 @@
+package model;
+
+// A change to a matching game, applied on the thread of the GameLoop that owns the game
+public interface GameCommand<R> {
+
+    // MODIFIES: game
+    // EFFECTS: applies this command to game and returns its result
+    R apply(MatchingGame game);
+}
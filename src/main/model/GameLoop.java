@@ -0,0 +1,138 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Applies every change to a matching game on one thread of its own, the game loop, so the game has a single writer
+// however many threads (the GUI, bots, replays) want to change it. Commands are queued without locks and applied in
+// the order they were queued. Their results are handed to a publisher, such as the GUI's event queue, in batches:
+// one batch for each time the loop empties its queue, so a burst of commands costs the publisher one hand-off.
+// Reading the game is safe on the loop's thread, and on the publisher's thread between batches of results while
+// nothing else is queued
+public class GameLoop {
+    private final CommandQueue<Submission<?>> commands;
+    private final Executor publisher;                     // runs each batch of results
+    private final Thread thread;
+    private final AtomicBoolean parked;                   // true while the loop may be waiting for commands
+    private volatile boolean closing;
+    private MatchingGame game;                            // the game commands apply to; used on the loop only
+
+    // EFFECTS: constructs a loop, not yet started, that changes game and hands results to publisher
+    public GameLoop(MatchingGame game, Executor publisher) {
+        this.commands = new CommandQueue<>();
+        this.publisher = publisher;
+        this.parked = new AtomicBoolean();
+        this.game = game;
+        this.thread = new Thread(this::run, "game loop");
+        this.thread.setDaemon(true);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts the loop's thread, which does not keep the application running
+    public void start() {
+        thread.start();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues command to be applied to the game on the loop; its result is given to onResult on the
+    //          publisher's thread, unless onResult is null; returns without waiting. A command that throws is
+    //          reported to the loop's uncaught exception handler and produces no result
+    public <R> void submit(GameCommand<R> command, Consumer<? super R> onResult) {
+        commands.offer(new Submission<>(command, onResult));
+        if (parked.get()) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues change to be applied to the game on the loop, then runs then on the publisher's thread,
+    //          unless then is null; returns without waiting
+    public void run(Consumer<MatchingGame> change, Runnable then) {
+        submit(g -> {
+            change.accept(g);
+            return null;
+        }, then == null ? null : ignored -> then.run());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues a switch to newGame, so that commands queued after this call apply to newGame
+    public void replaceGame(MatchingGame newGame) {
+        submit(g -> this.game = newGame, null);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: applies every command queued so far, publishes their results, and stops the loop; commands queued
+    //          after this call are never applied; throws InterruptedException if interrupted while waiting
+    public void close() throws InterruptedException {
+        closing = true;
+        LockSupport.unpark(thread);
+        thread.join();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: applies commands as they arrive, publishing the results of each run of commands as one batch,
+    //          until closed
+    private void run() {
+        List<Runnable> batch = new ArrayList<>();
+        while (true) {
+            for (Submission<?> s = commands.poll(); s != null; s = commands.poll()) {
+                Runnable result = apply(s);
+                if (result != null) {
+                    batch.add(result);
+                }
+            }
+            if (!batch.isEmpty()) {
+                List<Runnable> published = batch;
+                publisher.execute(() -> published.forEach(Runnable::run));
+                batch = new ArrayList<>();
+            }
+            if (closing && commands.isEmpty()) {
+                return;
+            }
+            awaitCommands();
+        }
+    }
+
+    // EFFECTS: applies submission to the game and returns the delivery of its result, or null if it has none
+    private Runnable apply(Submission<?> submission) {
+        try {
+            return submission.applyTo(game);
+        } catch (RuntimeException e) {
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            return null;
+        }
+    }
+
+    // EFFECTS: parks the loop until a command is queued or the loop is closed; a producer that queues a command
+    //          after the loop announces it is parking always sees the announcement and unparks it
+    private void awaitCommands() {
+        parked.set(true);
+        if (commands.isEmpty() && !closing) {
+            LockSupport.park(this);
+        }
+        parked.set(false);
+    }
+
+    // A queued command and what to do with its result
+    private static class Submission<R> {
+        private final GameCommand<R> command;
+        private final Consumer<? super R> onResult;     // receives the result, or null if it is not wanted
+
+        // EFFECTS: constructs a submission of command whose result goes to onResult
+        Submission(GameCommand<R> command, Consumer<? super R> onResult) {
+            this.command = command;
+            this.onResult = onResult;
+        }
+
+        // MODIFIES: game
+        // EFFECTS: applies the command to game and returns the delivery of its result, or null if it is not wanted
+        Runnable applyTo(MatchingGame game) {
+            R result = command.apply(game);
+            return onResult == null ? null : () -> onResult.accept(result);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package model;
+
+import java.util.Collections;
+import java.util.List;
+
+// Represents the state of a matching game at one moment, which never changes. A game publishes a new snapshot,
+// with a higher version, each time it changes; a turn only replaces the counts and the path to the matched bits
+// of the two cards, sharing the arrangement and everything else with the snapshot before it, so publishing costs
+// O(log n). Any thread can read the latest snapshot of a game without locks while the game goes on changing
+public final class GameSnapshot implements GameState {
+    private final long version;                 // number of snapshots the game published before this one
+    private final List<String> cardIdentities;  // card identities in the game, indexed by ordinal; read-only
+    private final int[] ordinals;               // identity ordinals indexed by location number; never changed
+    private final PersistentBitSet matched;     // bit i is set if the card at location i has been matched
+    private final int numGuesses;
+    private final int numMatches;
+    private final long seed;
+
+    // REQUIRES: cardIdentities and ordinals are not changed after this call, and matched has capacity
+    //           ordinals.length
+    // EFFECTS: constructs a snapshot with the given version, cards, counts and seed
+    GameSnapshot(long version, List<String> cardIdentities, int[] ordinals, PersistentBitSet matched,
+                 int numGuesses, int numMatches, long seed) {
+        this.version = version;
+        this.cardIdentities = Collections.unmodifiableList(cardIdentities);
+        this.ordinals = ordinals;
+        this.matched = matched;
+        this.numGuesses = numGuesses;
+        this.numMatches = numMatches;
+        this.seed = seed;
+    }
+
+    // EFFECTS: returns the next snapshot, with the same cards and the given counts
+    GameSnapshot withCounts(int newNumGuesses, int newNumMatches) {
+        return new GameSnapshot(this.version + 1, this.cardIdentities, this.ordinals, this.matched, newNumGuesses,
+                newNumMatches, this.seed);
+    }
+
+    // EFFECTS: returns a snapshot with the same state as this one and the given version, sharing all of its state
+    GameSnapshot withVersion(long newVersion) {
+        return new GameSnapshot(newVersion, this.cardIdentities, this.ordinals, this.matched, this.numGuesses,
+                this.numMatches, this.seed);
+    }
+
+    // REQUIRES: every location number is within [1, cardAmount]
+    // EFFECTS: returns the next snapshot, with the cards at the given locations also matched and the given counts
+    GameSnapshot withMatched(int newNumGuesses, int newNumMatches, int... locationNums) {
+        PersistentBitSet newMatched = this.matched;
+        for (int locationNum : locationNums) {
+            newMatched = newMatched.with(locationNum);
+        }
+        return new GameSnapshot(this.version + 1, this.cardIdentities, this.ordinals, newMatched, newNumGuesses,
+                newNumMatches, this.seed);
+    }
+
+    // EFFECTS: returns the number of snapshots the game published before this one; a later snapshot of the same
+    //          game always has a higher version
+    public long getVersion() {
+        return this.version;
+    }
+
+    @Override
+    public int getCardAmount() {
+        return this.ordinals.length - 1;
+    }
+
+    @Override
+    public List<String> getCardIdentities() {
+        return this.cardIdentities;
+    }
+
+    @Override
+    public String getIdentityAt(int locationNum) {
+        return this.cardIdentities.get(this.ordinals[locationNum]);
+    }
+
+    @Override
+    public boolean isCardMatched(int locationNum) {
+        return this.matched.get(locationNum);
+    }
+
+    @Override
+    public int getNumGuesses() {
+        return this.numGuesses;
+    }
+
+    @Override
+    public int getNumMatches() {
+        return this.numMatches;
+    }
+
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    @Override
+    public boolean checkGameOver() {
+        return this.numMatches == getCardAmount() / 2;
+    }
+}
@@ -0,0 +1,34 @@
+package model;
+
+import java.util.List;
+
+// Represents the state of a matching game as seen by code that only reads it, such as panels and save writers:
+// its cards, the identity and status of the card at each location, its counts, and its seed
+public interface GameState {
+
+    // EFFECTS: returns the total number of cards in the game
+    int getCardAmount();
+
+    // EFFECTS: returns the list of card identities in the game
+    List<String> getCardIdentities();
+
+    // REQUIRES: locationNum is within [1, cardAmount]
+    // EFFECTS: returns the identity of the card at locationNum, whether or not it has been matched
+    String getIdentityAt(int locationNum);
+
+    // REQUIRES: locationNum is within [1, cardAmount]
+    // EFFECTS: returns true if the card at locationNum has been matched
+    boolean isCardMatched(int locationNum);
+
+    // EFFECTS: returns the number of guesses made
+    int getNumGuesses();
+
+    // EFFECTS: returns the number of matches made
+    int getNumMatches();
+
+    // EFFECTS: returns the seed that the board was arranged with
+    long getSeed();
+
+    // EFFECTS: returns true if all matches have been made
+    boolean checkGameOver();
+}
@@ -0,0 +1,80 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Represents the list of card identities in use by a game; identities that follow on from the start of an
+// identity source are not stored but worked out from the source, and only identities that break that run
+// (e.g. from an old save) are kept
+class IdentityList extends AbstractList<String> {
+    private final IdentitySource source;
+    private int prefixSize;                 // number of identities at the start of the list taken from the source
+    private final List<String> others;      // identities after the run of source identities, in order
+    private final Set<String> otherSet;     // the identities in others, for fast lookup
+    private int nextOrdinal;                // ordinal of the first source identity that may still be unused
+
+    // EFFECTS: constructs an empty list of identities from source
+    IdentityList(IdentitySource source) {
+        this.source = source;
+        this.prefixSize = 0;
+        this.others = new ArrayList<>();
+        this.otherSet = new HashSet<>();
+        this.nextOrdinal = 0;
+    }
+
+    // EFFECTS: constructs a list holding the same identities as other; later changes to either list do not
+    //          change the other
+    IdentityList(IdentityList other) {
+        this.source = other.source;
+        this.prefixSize = other.prefixSize;
+        this.others = new ArrayList<>(other.others);
+        this.otherSet = new HashSet<>(other.otherSet);
+        this.nextOrdinal = other.nextOrdinal;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (index < this.prefixSize) {
+            return this.source.identityOf(index);
+        }
+        return this.others.get(index - this.prefixSize);
+    }
+
+    @Override
+    public int size() {
+        return this.prefixSize + this.others.size();
+    }
+
+    // REQUIRES: identity is not already in the list
+    // MODIFIES: this
+    // EFFECTS: adds identity to the end of the list
+    @Override
+    public boolean add(String identity) {
+        if (this.others.isEmpty() && identity.equals(this.source.identityOf(this.prefixSize))) {
+            this.prefixSize = this.prefixSize + 1;
+            this.nextOrdinal = Math.max(this.nextOrdinal, this.prefixSize);
+        } else {
+            this.others.add(identity);
+            this.otherSet.add(identity);
+        }
+        this.modCount = this.modCount + 1;
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the first identity of the source that is not in the list; amortized O(1)
+    String findUnused() {
+        String identity = this.source.identityOf(this.nextOrdinal);
+        while (this.otherSet.contains(identity)) {
+            this.nextOrdinal = this.nextOrdinal + 1;
+            identity = this.source.identityOf(this.nextOrdinal);
+        }
+        return identity;
+    }
+}
@@ -0,0 +1,9 @@
+package model;
+
+// Represents an unbounded source of distinct card identities, each identified by an ordinal starting at 0
+public interface IdentitySource {
+
+    // REQUIRES: ordinal >= 0
+    // EFFECTS: returns the identity with the given ordinal; different ordinals give different identities
+    String identityOf(int ordinal);
+}
@@ -0,0 +1,9 @@
+package model;
+
+// Represents a source of random indices that drives a shuffle; e.g. new SplittableRandom(seed)::nextInt
+public interface IndexGenerator {
+
+    // REQUIRES: bound > 0
+    // EFFECTS: returns the next index, chosen uniformly from [0, bound)
+    int nextIndex(int bound);
+}
@@ -3,162 +3,413 @@ package model;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.ShuffleEvent;
 import persistence.Writable;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 // Represents a matching game with an amount of cards, list of card identities in use,
-// cards on the board, cards matched, and number of guesses made
-public class MatchingGame implements Writable {
-    public static final List<String> POSSIBLE_IDENTITIES = new LinkedList<>(Arrays.asList("A", "B", "C", "D",
-            "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", "O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", "Y",
-            "Z"));
+// a board of cards indexed by location number (kept as Card objects or in compact form),
+// and number of guesses and matches made; after every change it publishes an immutable snapshot of itself
+// that other threads can read without locks. Once history is enabled, turns can be undone and redone without limit:
+// each turn in the history keeps the snapshots from before and after it, which share all but O(log n) of their
+// state. History is off by default, so headless players and replays keep nothing
+public class MatchingGame implements Writable, GameState {
+    public static final IdentitySource DEFAULT_IDENTITIES = AlphabetIdentities.LETTERS;
+    private static final LatencyHistogram ARRANGEMENT_LATENCY =
+            MetricsRegistry.getInstance().histogram("makeBoardArrangement");
 
     private int cardAmount;                            // total number of cards in the game
-    private List<String> cardIdentities;               // list of all card identities already in the game
-    private List<Card> unmatchedCards;                 // list of all cards still on the board
-    private LinkedList<Integer> unmatchedLocationNums;       // list of all the location numbers of unmatched cards
-    private List<Card> matchedCards;                   // list of all cards matched
+    private IdentityList cardIdentities;               // list of all card identities already in the game
+    private Board board;                               // all cards, indexed by location number
     private int numGuesses;                            // number of guesses made
     private int numMatches;                            // number of matches made
+    private long seed;                                 // seed that the board is arranged with
+    private boolean loggingEnabled;                    // true if guesses are logged to the EventLog
+    private boolean historyEnabled;                    // true if turns are kept so they can be undone
+    private volatile GameSnapshot snapshot;            // latest snapshot of this game
+    private List<Turn> history;                        // turns played with makeGuess, oldest first, then undone ones
+    private int turnsPlayed;                           // number of turns in history that have not been undone
 
-    // EFFECTS: constructs a game with 4 cards, a list of card identities in use,
-    //          a list of all cards on the board, a list of the location numbers on the board,
-    //          an empty list of cards matched, 0 guesses made, and 0 matches made, then rearranges the board
+    // EFFECTS: constructs a game with 4 cards stored as Card objects, a list of card identities in use,
+    //          a board holding all 4 (unmatched) cards, 0 guesses made, and 0 matches made,
+    //          then rearranges the board
     public MatchingGame() {
-        this.cardAmount = 4;
-        this.cardIdentities = new LinkedList<>(Arrays.asList("A", "B"));
-        this.unmatchedCards = new LinkedList<>(Arrays.asList(new Card("A"), new Card("A"),
-                new Card("B"), new Card("B")));
-        this.unmatchedLocationNums = new LinkedList<>(Arrays.asList(1, 2, 3, 4));
-        this.matchedCards = new LinkedList<>();
+        this(BoardStorage.OBJECTS);
+    }
+
+    // EFFECTS: constructs a game with 4 cards kept in the given board storage, a list of card identities in use,
+    //          a board holding all 4 (unmatched) cards, 0 guesses made, and 0 matches made,
+    //          then rearranges the board
+    public MatchingGame(BoardStorage storage) {
+        this(storage, DEFAULT_IDENTITIES);
+    }
+
+    // EFFECTS: constructs a game with 4 cards kept in the given board storage, whose card identities are handed
+    //          out by identitySource, a board holding all 4 (unmatched) cards, 0 guesses made, and 0 matches made,
+    //          then rearranges the board
+    public MatchingGame(BoardStorage storage, IdentitySource identitySource) {
+        this(2, storage, identitySource);
+    }
+
+    // REQUIRES: numPairs >= 1
+    // EFFECTS: constructs a game with numPairs pairs of cards stored as Card objects, a list of card identities
+    //          in use, a board holding all (unmatched) cards, 0 guesses made, and 0 matches made,
+    //          then rearranges the board
+    public MatchingGame(int numPairs) {
+        this(numPairs, BoardStorage.OBJECTS, DEFAULT_IDENTITIES);
+    }
+
+    // REQUIRES: numPairs >= 1
+    // EFFECTS: constructs a game with numPairs pairs of cards kept in the given board storage, whose card
+    //          identities are handed out by identitySource, a board holding all (unmatched) cards, 0 guesses made,
+    //          and 0 matches made, then rearranges the board once with a randomly chosen seed
+    public MatchingGame(int numPairs, BoardStorage storage, IdentitySource identitySource) {
+        this(numPairs, storage, identitySource, ThreadLocalRandom.current().nextLong());
+    }
+
+    // REQUIRES: numPairs >= 1
+    // EFFECTS: constructs a game with numPairs pairs of cards kept in the given board storage, whose card
+    //          identities are handed out by identitySource, a board holding all (unmatched) cards, 0 guesses made,
+    //          and 0 matches made, then rearranges the board once with the given seed; games made with the same
+    //          arguments always have the same arrangement
+    public MatchingGame(int numPairs, BoardStorage storage, IdentitySource identitySource, long seed) {
+        this.cardAmount = 0;
+        this.history = new ArrayList<>();
+        this.cardIdentities = new IdentityList(identitySource);
+        this.board = makeBoard(storage, this.cardIdentities);
+        appendPairs(numPairs);
         this.numGuesses = 0;
         this.numMatches = 0;
+        this.seed = seed;
+        this.loggingEnabled = true;
+        this.historyEnabled = false;
         makeBoardArrangement();
     }
 
-    // EFFECTS: constructs a game with a given number of cards, a list of card identities in use,
-    //          a list of all cards on the board, a list of the location numbers on the board (already arranged),
-    //          a list of cards matched, number of guesses made, and number of matches made
+    // EFFECTS: constructs a game from a save without a recorded seed, as below, with a randomly chosen seed
     public MatchingGame(int cardAmount, List<String> cardIdentities, List<Card> unmatchedCards,
                         LinkedList<Integer> unmatchedLocationNums, List<Card> matchedCards, int numGuesses,
                         int numMatches) {
+        this(cardAmount, cardIdentities, unmatchedCards, unmatchedLocationNums, matchedCards, numGuesses,
+                numMatches, ThreadLocalRandom.current().nextLong());
+    }
+
+    // REQUIRES: every card in unmatchedCards and matchedCards has a distinct location number in [1, cardAmount]
+    //           and an identity in cardIdentities, and cardIdentities has no duplicates
+    // EFFECTS: constructs a game with a given number of cards, a list of card identities in use (new identities
+    //          are handed out by DEFAULT_IDENTITIES), a list of all cards on the board, a list of the location
+    //          numbers on the board (already arranged), a list of cards matched, number of guesses made, number of
+    //          matches made, and the seed the board was arranged with; the board is indexed by each card's own
+    //          location number, so unmatchedLocationNums is only kept for compatibility with existing saves
+    public MatchingGame(int cardAmount, List<String> cardIdentities, List<Card> unmatchedCards,
+                        LinkedList<Integer> unmatchedLocationNums, List<Card> matchedCards, int numGuesses,
+                        int numMatches, long seed) {
         this.cardAmount = cardAmount;
-        this.cardIdentities = cardIdentities;
-        this.unmatchedCards = unmatchedCards;
-        this.unmatchedLocationNums = unmatchedLocationNums;
-        this.matchedCards = matchedCards;
+        this.history = new ArrayList<>();
+        this.cardIdentities = new IdentityList(DEFAULT_IDENTITIES);
+        this.cardIdentities.addAll(cardIdentities);
+        this.board = makeBoard(BoardStorage.OBJECTS, this.cardIdentities);
+        this.board.resize(cardAmount);
+        Map<String, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < this.cardIdentities.size(); i++) {
+            ordinals.put(this.cardIdentities.get(i), i);
+        }
+        placeCards(unmatchedCards, ordinals);
+        placeCards(matchedCards, ordinals);
+        this.numGuesses = numGuesses;
+        this.numMatches = numMatches;
+        this.seed = seed;
+        this.loggingEnabled = true;
+        this.historyEnabled = false;
+        publishArrangement();
+    }
+
+    // REQUIRES: ordinals.length - 1 is even, and for each location i in [1, ordinals.length - 1], ordinals[i] is
+    //           the position in cardIdentities of the identity of the card at location i, with each position used
+    //           by exactly two locations; matched only holds locations of cards whose pair has been matched
+    // EFFECTS: constructs a game from the contents of a save: a list of card identities in use (new identities
+    //          are handed out by DEFAULT_IDENTITIES), the identity of the card at each location, the locations of
+    //          matched cards, number of guesses made, number of matches made, and the seed the board was arranged
+    //          with; the board is kept in the given storage
+    public MatchingGame(List<String> cardIdentities, int[] ordinals, BitSet matched, int numGuesses, int numMatches,
+                        long seed, BoardStorage storage) {
+        this.cardAmount = ordinals.length - 1;
+        this.history = new ArrayList<>();
+        this.cardIdentities = new IdentityList(DEFAULT_IDENTITIES);
+        this.cardIdentities.addAll(cardIdentities);
+        this.board = makeBoard(storage, this.cardIdentities);
+        this.board.resize(this.cardAmount);
+        for (int i = 1; i <= this.cardAmount; i++) {
+            this.board.place(i, ordinals[i], matched.get(i));
+        }
         this.numGuesses = numGuesses;
         this.numMatches = numMatches;
+        this.seed = seed;
+        this.loggingEnabled = true;
+        this.historyEnabled = false;
+        publishArrangement();
+    }
+
+    // EFFECTS: constructs a game in the same state as other, with no turns to undo or redo, sharing nothing that
+    //          can change with it
+    private MatchingGame(MatchingGame other) {
+        this.cardAmount = other.cardAmount;
+        this.history = new ArrayList<>();
+        this.cardIdentities = new IdentityList(other.cardIdentities);
+        this.board = other.board.copy(this.cardIdentities);
+        this.numGuesses = other.numGuesses;
+        this.numMatches = other.numMatches;
+        this.seed = other.seed;
+        this.loggingEnabled = other.loggingEnabled;
+        this.historyEnabled = other.historyEnabled;
+        this.snapshot = other.snapshot;
+    }
+
+    // EFFECTS: returns a copy of this game, kept in the same storage, that later changes to this game
+    //          do not affect (e.g. for saving it on another thread)
+    public MatchingGame copy() {
+        return new MatchingGame(this);
+    }
+
+    // EFFECTS: returns a new, empty board kept in the given storage whose ordinals refer to identities
+    private static Board makeBoard(BoardStorage storage, List<String> identities) {
+        if (storage == BoardStorage.COMPACT) {
+            return new CompactBoard(identities);
+        }
+        return new CardBoard(identities);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: places each card on the board at its own location number, using ordinals to find its identity
+    private void placeCards(List<Card> cards, Map<String, Integer> ordinals) {
+        for (Card c : cards) {
+            this.board.place(c.getLocationNum(), ordinals.get(c.getIdentity()), c.getStatus());
+        }
     }
 
-    // REQUIRES: cardAmount / 2 + 1 <= the number of items in POSSIBLE_IDENTITIES
     // MODIFIES: this
-    // EFFECTS: adds a new (matching) pair of cards to the board and assigns
-    //          them a unique identity, marks that identity as used, makes a new list of location numbers
-    //          for cards on the board, then rearranges the board
+    // EFFECTS: adds a new (matching) pair of cards to the end of the board and assigns
+    //          them a unique identity, marks that identity as used, then rearranges the board
     public void addCardPair() {
-        if (cardIdentities.size() < POSSIBLE_IDENTITIES.size()) {
-            String unusedIdentity = findUnusedIdentity();
-            this.unmatchedCards.add(new Card(unusedIdentity));
-            this.unmatchedCards.add(new Card(unusedIdentity));
-            this.cardAmount = this.cardAmount + 2;
-            this.unmatchedLocationNums = new LinkedList<>();
-            for (int i = 1; i <= this.unmatchedCards.size(); ++i) {
-                this.unmatchedLocationNums.add(i);
-            }
-            addNewCardIdentity(unusedIdentity);
-            makeBoardArrangement();
-            EventLog.getInstance().logEvent(new Event("Added a pair of cards with identity '"
-                    + unusedIdentity + "' to the game."));
+        String unusedIdentity = findUnusedIdentity();
+        appendPairs(1);
+        makeBoardArrangement();
+        EventLog.getInstance().logEvent(new Event("Added a pair of cards with identity '{}' to the game.",
+                unusedIdentity));
+    }
+
+    // REQUIRES: numPairs >= 1
+    // MODIFIES: this
+    // EFFECTS: adds numPairs new (matching) pairs of cards to the end of the board, each with a unique identity,
+    //          marks those identities as used, then rearranges the board once and logs a single event
+    public void addCardPairs(int numPairs) {
+        String firstIdentity = findUnusedIdentity();
+        appendPairs(numPairs);
+        makeBoardArrangement();
+        EventLog.getInstance().logEvent(new Event("Added {} pairs of cards with identities '{}' to '{}' to the game.",
+                numPairs, firstIdentity, this.cardIdentities.get(this.cardIdentities.size() - 1)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: gives numPairs unused identities to new pairs of cards and appends them to the end of the board
+    //          without rearranging it
+    private void appendPairs(int numPairs) {
+        int firstOrdinal = this.cardIdentities.size();
+        for (int i = 0; i < numPairs; i++) {
+            addNewCardIdentity(findUnusedIdentity());
         }
+        this.board.addPairs(firstOrdinal, numPairs);
+        this.cardAmount = this.cardAmount + 2 * numPairs;
     }
 
-    // EFFECTS: finds the first identity in POSSIBLE_IDENTITIES that is not in cardIdentities; returns null
-    //          if all identities are in use
+    // EFFECTS: returns the first identity from the game's identity source that is not in cardIdentities;
+    //          amortized O(1)
     public String findUnusedIdentity() {
-        for (String s : POSSIBLE_IDENTITIES) {
-            if (!cardIdentities.contains(s)) {
-                return s;
-            }
-        }
-        return null;
+        return this.cardIdentities.findUnused();
     }
 
-    // REQUIRES: this.cardIdentities does not already contain newIdentity AND newIdentity
-    //           is in POSSIBLE_IDENTITIES
+    // REQUIRES: this.cardIdentities does not already contain newIdentity
     // MODIFIES: this
     // EFFECTS: adds a card identity to the list of identities in the game
     public void addNewCardIdentity(String newIdentity) {
         this.cardIdentities.add(newIdentity);
     }
 
-    // REQUIRES: locationNum corresponds to a card in unmatchedCards
+    // REQUIRES: locationNum corresponds to an unmatched card on the board
     // MODIFIES: this
-    // EFFECTS: removes a card from the list of cards on the board and puts it at
-    //          the end of the list of matched cards, removes that location number
-    //          from the list of unmatched location numbers, and changes the card's status to matched
+    // EFFECTS: removes the card at locationNum from play by changing its status to matched
     public void removeCardFromBoard(int locationNum) {
-        findCard(locationNum).matchCard();
-        this.matchedCards.add(findCard(locationNum));
-        this.unmatchedCards.remove(findCard(locationNum));
-        this.unmatchedLocationNums.removeFirstOccurrence(locationNum);
+        forgetHistory();
+        this.board.match(locationNum);
+        this.snapshot = this.snapshot.withMatched(this.numGuesses, this.numMatches, locationNum);
     }
 
-    // REQUIRES: locationNum is within [1, cardAmount]
-    // EFFECTS: returns the card in unmatchedCards with the given locationNum,
-    //          or returns null if no card with that locationNum is found
+    // EFFECTS: returns the unmatched card at the given locationNum, or returns null
+    //          if locationNum is not within [1, cardAmount] or that card has been matched
     public Card findCard(int locationNum) {
-        for (Card c : this.unmatchedCards) {
-            if (c.getLocationNum() == locationNum) {
-                return c;
-            }
+        if (locationNum < 1 || locationNum > this.cardAmount) {
+            return null;
         }
-        return null;
+        return this.board.isMatched(locationNum) ? null : this.board.cardAt(locationNum);
     }
 
-    // REQUIRES: both locationNum1 and locationNum2 correspond to a card in unmatchedCards
+    // REQUIRES: both locationNum1 and locationNum2 correspond to an unmatched card on the board
     // EFFECTS: returns true if two cards of given location numbers have the same identity, false otherwise
     public boolean isAMatch(int locationNum1, int locationNum2) {
-        Card c1 = findCard(locationNum1);
-        Card c2 = findCard(locationNum2);
-        EventLog.getInstance().logEvent(new Event("Guessed a match between card at location " + locationNum1
-                + " and card at location " + locationNum2 + "."));
-        boolean match = c1.getIdentity().equals(c2.getIdentity());
+        boolean match = this.board.sameIdentity(locationNum1, locationNum2);
+        if (this.loggingEnabled) {
+            EventLog.getInstance().logEvent(new Event("Guessed a match between card at location {} and card at "
+                    + "location {}.", locationNum1, locationNum2));
+            if (match) {
+                EventLog.getInstance().logEvent(new Event("Match found for cards with identity '{}'.",
+                        this.board.identityAt(locationNum1)));
+            }
+        }
+        return match;
+    }
+
+    // REQUIRES: locationNum1 != locationNum2 and both correspond to an unmatched card on the board
+    // MODIFIES: this
+    // EFFECTS: plays one turn: counts a guess, and if the two cards are a match, counts a match and removes
+    //          both cards from the board; returns true if the cards were a match. Publishes one snapshot for the
+    //          whole turn, and, if history is enabled, adds the turn to the history, forgetting any turns that
+    //          were undone
+    public boolean makeGuess(int locationNum1, int locationNum2) {
+        GameSnapshot before = this.snapshot;
+        this.numGuesses = this.numGuesses + 1;
+        boolean match = isAMatch(locationNum1, locationNum2);
         if (match) {
-            EventLog.getInstance().logEvent(new Event("Match found for cards with identity '"
-                    + c1.getIdentity() + "'."));
+            this.numMatches = this.numMatches + 1;
+            this.board.match(locationNum1);
+            this.board.match(locationNum2);
+            this.snapshot = this.snapshot.withMatched(this.numGuesses, this.numMatches, locationNum1, locationNum2);
+        } else {
+            this.snapshot = this.snapshot.withCounts(this.numGuesses, this.numMatches);
+        }
+        if (this.historyEnabled) {
+            this.history.subList(this.turnsPlayed, this.history.size()).clear();
+            this.history.add(new Turn(locationNum1, locationNum2, match, before, this.snapshot));
+            this.turnsPlayed = this.turnsPlayed + 1;
         }
         return match;
     }
 
+    // EFFECTS: returns true if there is a turn to undo
+    public boolean canUndo() {
+        return this.turnsPlayed > 0;
+    }
+
+    // EFFECTS: returns true if there is an undone turn to redo
+    public boolean canRedo() {
+        return this.turnsPlayed < this.history.size();
+    }
+
+    // REQUIRES: canUndo()
+    // MODIFIES: this
+    // EFFECTS: undoes the latest turn that has not been undone, putting its cards back in play if they matched and
+    //          restoring the counts and snapshot from before it; O(1)
+    public void undo() {
+        this.turnsPlayed = this.turnsPlayed - 1;
+        Turn turn = this.history.get(this.turnsPlayed);
+        if (turn.match) {
+            this.board.unmatch(turn.locationNum1);
+            this.board.unmatch(turn.locationNum2);
+        }
+        restore(turn.before);
+        if (this.loggingEnabled) {
+            EventLog.getInstance().logEvent(new Event("Undid the guess of cards at locations {} and {}.",
+                    turn.locationNum1, turn.locationNum2));
+        }
+    }
+
+    // REQUIRES: canRedo()
+    // MODIFIES: this
+    // EFFECTS: plays the earliest undone turn again, restoring the counts and snapshot from after it; O(1)
+    public void redo() {
+        Turn turn = this.history.get(this.turnsPlayed);
+        this.turnsPlayed = this.turnsPlayed + 1;
+        if (turn.match) {
+            this.board.match(turn.locationNum1);
+            this.board.match(turn.locationNum2);
+        }
+        restore(turn.after);
+        if (this.loggingEnabled) {
+            EventLog.getInstance().logEvent(new Event("Redid the guess of cards at locations {} and {}.",
+                    turn.locationNum1, turn.locationNum2));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes the counts from saved and publishes its state again as the latest snapshot, with the next
+    //          version so that versions only ever increase
+    private void restore(GameSnapshot saved) {
+        this.numGuesses = saved.getNumGuesses();
+        this.numMatches = saved.getNumMatches();
+        this.snapshot = saved.withVersion(this.snapshot.getVersion() + 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets every turn, so there is nothing to undo or redo; called before any change that is not a
+    //          turn played with makeGuess
+    private void forgetHistory() {
+        this.history.clear();
+        this.turnsPlayed = 0;
+    }
+
     // MODIFIES: this
     // EFFECTS: adds 1 to the number of guesses made
     public void countAnotherGuess() {
+        forgetHistory();
         this.numGuesses = this.numGuesses + 1;
+        this.snapshot = this.snapshot.withCounts(this.numGuesses, this.numMatches);
     }
 
     // MODIFIES: this
     // EFFECTS: adds 1 to the number of matches made
     public void countAnotherMatch() {
+        forgetHistory();
         this.numMatches = this.numMatches + 1;
+        this.snapshot = this.snapshot.withCounts(this.numGuesses, this.numMatches);
     }
 
+    // REQUIRES: no cards have been matched yet
     // MODIFIES: this
-    // EFFECTS: randomly assigns a (different) locationNum to each card in
-    //          the list of unmatched cards
+    // EFFECTS: randomly rearranges the cards on the board in place using the game's seed and assigns each card
+    //          the (different) locationNum it now occupies; the arrangement depends only on the seed and the
+    //          cards in the game
     public void makeBoardArrangement() {
-        LinkedList<Integer> locationNumList = new LinkedList<>();
-        for (int i = this.unmatchedCards.size(); i >= 1; --i) {
-            locationNumList.add(i);
-        }
-        Collections.shuffle(locationNumList);
-        for (Card c : this.unmatchedCards) {
-            c.changeLocationNum(locationNumList.removeFirst());
-        }
+        ShuffleEvent event = new ShuffleEvent();
+        event.begin();
+        long start = System.nanoTime();
+        forgetHistory();
+        this.board.shuffle(this.seed);
+        ARRANGEMENT_LATENCY.recordSince(start);
+        event.finish(this.cardAmount);
+        publishArrangement();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: publishes a snapshot of the whole game, copying its arrangement; used when the arrangement changes
+    private void publishArrangement() {
+        long version = this.snapshot == null ? 0 : this.snapshot.getVersion() + 1;
+        PersistentBitSet matched = PersistentBitSet.of(this.cardAmount + 1, i -> i >= 1 && this.board.isMatched(i));
+        this.snapshot = new GameSnapshot(version, new IdentityList(this.cardIdentities), this.board.ordinals(),
+                matched, this.numGuesses, this.numMatches, this.seed);
+    }
+
+    // EFFECTS: returns the latest snapshot of this game, which reflects every change made so far; safe to call from
+    //          any thread
+    public GameSnapshot snapshot() {
+        return this.snapshot;
     }
 
     // MODIFIES: this
@@ -178,19 +429,21 @@ public class MatchingGame implements Writable {
         return this.cardIdentities;
     }
 
-    // EFFECTS: returns the list of cards still on the board
+    // EFFECTS: returns a live, read-only view of the cards still on the board, in order of location number
     public List<Card> getUnmatchedCards() {
-        return this.unmatchedCards;
+        return new BoardView<>(this.board, false, this.board::cardAt);
     }
 
+    // EFFECTS: returns a live, read-only view of the location numbers of all cards still on the board,
+    //          in increasing order
     public List<Integer> getUnmatchedLocationNums() {
-        return this.unmatchedLocationNums;
+        return new BoardView<>(this.board, false, Integer::valueOf);
     }
 
-    // EFFECTS: returns the list of cards that have been matched
-    //          and removed from the board
+    // EFFECTS: returns a live, read-only view of the cards that have been matched
+    //          and removed from the board, in order of location number
     public List<Card> getMatchedCards() {
-        return this.matchedCards;
+        return new BoardView<>(this.board, true, this.board::cardAt);
     }
 
     // EFFECTS: returns the number of match guesses made so far
@@ -203,6 +456,43 @@ public class MatchingGame implements Writable {
         return this.numMatches;
     }
 
+    // EFFECTS: returns the seed that the board is arranged with
+    public long getSeed() {
+        return this.seed;
+    }
+
+    // REQUIRES: locationNum is within [1, cardAmount]
+    // EFFECTS: returns the identity of the card at locationNum, whether or not it has been matched
+    public String getIdentityAt(int locationNum) {
+        return this.board.identityAt(locationNum);
+    }
+
+    // REQUIRES: locationNum is within [1, cardAmount]
+    // EFFECTS: returns true if the card at locationNum has been matched
+    public boolean isCardMatched(int locationNum) {
+        return this.board.isMatched(locationNum);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: turns logging of guesses to the EventLog on or off; headless players turn it off
+    //          so that turns cost no string building or event allocation
+    public void setLoggingEnabled(boolean loggingEnabled) {
+        this.loggingEnabled = loggingEnabled;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: turns keeping of turns for undo and redo on or off, forgetting every turn kept so far; it is off
+    //          until a caller that offers undo turns it on, so other turns cost no snapshots kept
+    public void setHistoryEnabled(boolean historyEnabled) {
+        this.historyEnabled = historyEnabled;
+        forgetHistory();
+    }
+
+    // EFFECTS: returns true if turns are kept so that they can be undone
+    public boolean isHistoryEnabled() {
+        return this.historyEnabled;
+    }
+
     // Method taken and adapted from WorkRoom class in
     // https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo
     @Override
@@ -210,11 +500,12 @@ public class MatchingGame implements Writable {
         JSONObject json = new JSONObject();
         json.put("card amount", this.cardAmount);
         json.put("card identities", stringsToJsonArray(this.cardIdentities));
-        json.put("unmatched cards", cardsToJsonArray(this.unmatchedCards));
-        json.put("unmatched location numbers", integersToJsonArray(this.unmatchedLocationNums));
-        json.put("matched cards", cardsToJsonArray(this.matchedCards));
+        json.put("unmatched cards", cardsToJsonArray(getUnmatchedCards()));
+        json.put("unmatched location numbers", integersToJsonArray(getUnmatchedLocationNums()));
+        json.put("matched cards", cardsToJsonArray(getMatchedCards()));
         json.put("number of guesses", this.numGuesses);
         json.put("number of matches", this.numMatches);
+        json.put("seed", this.seed);
         return json;
     }
 
@@ -238,4 +529,23 @@ public class MatchingGame implements Writable {
     private JSONArray stringsToJsonArray(List<String> strings) {
         return new JSONArray(strings);
     }
+
+    // A turn played with makeGuess: the two locations guessed, whether they matched, and the snapshots of the game
+    // from just before and just after it
+    private static class Turn {
+        private final int locationNum1;
+        private final int locationNum2;
+        private final boolean match;
+        private final GameSnapshot before;
+        private final GameSnapshot after;
+
+        // EFFECTS: constructs a turn guessing the given locations with the given result and snapshots
+        Turn(int locationNum1, int locationNum2, boolean match, GameSnapshot before, GameSnapshot after) {
+            this.locationNum1 = locationNum1;
+            this.locationNum2 = locationNum2;
+            this.match = match;
+            this.before = before;
+            this.after = after;
+        }
+    }
 }
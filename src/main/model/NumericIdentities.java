@@ -0,0 +1,10 @@
+package model;
+
+// Represents a source of identities that are the counting numbers 1, 2, 3, ...
+public class NumericIdentities implements IdentitySource {
+
+    @Override
+    public String identityOf(int ordinal) {
+        return String.valueOf(ordinal + 1L);
+    }
+}
@@ -0,0 +1,95 @@
+package model;
+
+import java.util.function.IntPredicate;
+
+// Represents an immutable set of bits numbered [0, capacity), kept as a trie: leaves of 8 words (512 bits) under
+// internal nodes of 16 children each. Setting a bit returns a new set that copies only the path from the root to
+// that bit's leaf (about 300 bytes for a million bits) and shares every other node with this one, so it costs
+// O(log n) time and memory, and any number of threads can read any version without locks
+final class PersistentBitSet {
+    private static final int SHIFT = 4;                        // log2 of the number of children of a node
+    private static final int WIDTH = 1 << SHIFT;               // children per internal node
+    private static final int LEAF_WORDS = 8;                   // words per leaf
+    private static final int LEAF_SHIFT = 9;                   // log2 of the number of bits per leaf
+
+    private final Object root;      // a long[] leaf if depth is 0, otherwise an Object[] internal node
+    private final int depth;        // number of levels of internal nodes above the leaves
+    private final int capacity;     // number of bits in the set
+
+    // EFFECTS: constructs a set of capacity bits with the given trie
+    private PersistentBitSet(Object root, int depth, int capacity) {
+        this.root = root;
+        this.depth = depth;
+        this.capacity = capacity;
+    }
+
+    // REQUIRES: capacity >= 0
+    // EFFECTS: returns a set of capacity bits where bit i is set if isSet tests true for i
+    static PersistentBitSet of(int capacity, IntPredicate isSet) {
+        int leaves = Math.max(1, (capacity + (1 << LEAF_SHIFT) - 1) >>> LEAF_SHIFT);
+        int depth = 0;
+        while ((1L << (SHIFT * depth)) < leaves) {
+            depth++;
+        }
+        return new PersistentBitSet(build(depth, 0, capacity, isSet), depth, capacity);
+    }
+
+    // EFFECTS: returns the subtrie of the given depth holding the bits from first onwards that isSet tests true,
+    //          leaving bits at capacity and beyond clear
+    private static Object build(int depth, int first, int capacity, IntPredicate isSet) {
+        if (depth == 0) {
+            long[] leaf = new long[LEAF_WORDS];
+            for (int i = first; i < Math.min(capacity, first + (1 << LEAF_SHIFT)); i++) {
+                if (isSet.test(i)) {
+                    leaf[(i >>> 6) & (LEAF_WORDS - 1)] |= 1L << i;
+                }
+            }
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        int span = 1 << (LEAF_SHIFT + SHIFT * (depth - 1));
+        for (int c = 0; c < WIDTH && first + (long) c * span < Math.max(capacity, 1); c++) {
+            node[c] = build(depth - 1, first + c * span, capacity, isSet);
+        }
+        return node;
+    }
+
+    // REQUIRES: i is within [0, capacity)
+    // EFFECTS: returns true if bit i is set
+    boolean get(int i) {
+        Object node = root;
+        for (int level = depth; level > 0; level--) {
+            node = ((Object[]) node)[(i >>> (LEAF_SHIFT + SHIFT * (level - 1))) & (WIDTH - 1)];
+        }
+        return (((long[]) node)[(i >>> 6) & (LEAF_WORDS - 1)] & (1L << i)) != 0;
+    }
+
+    // REQUIRES: i is within [0, capacity)
+    // EFFECTS: returns a set equal to this one with bit i also set, sharing all but O(log n) nodes with this one;
+    //          returns this set if bit i is already set
+    PersistentBitSet with(int i) {
+        if (get(i)) {
+            return this;
+        }
+        return new PersistentBitSet(withBit(root, depth, i), depth, capacity);
+    }
+
+    // EFFECTS: returns a copy of the subtrie node of the given depth with bit i set, sharing the children that
+    //          do not lead to bit i
+    private static Object withBit(Object node, int depth, int i) {
+        if (depth == 0) {
+            long[] leaf = ((long[]) node).clone();
+            leaf[(i >>> 6) & (LEAF_WORDS - 1)] |= 1L << i;
+            return leaf;
+        }
+        Object[] copy = ((Object[]) node).clone();
+        int c = (i >>> (LEAF_SHIFT + SHIFT * (depth - 1))) & (WIDTH - 1);
+        copy[c] = withBit(copy[c], depth - 1, i);
+        return copy;
+    }
+
+    // EFFECTS: returns the number of bits in the set
+    int capacity() {
+        return capacity;
+    }
+}
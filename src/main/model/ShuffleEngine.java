@@ -0,0 +1,85 @@
+package model;
+
+// Shuffles arrays in place with the Fisher-Yates algorithm, driven by any IndexGenerator. Shuffles from a seed use
+// a SplitMix64 generator written out here rather than SplittableRandom, whose algorithm the JDK does not promise to
+// keep, so the same seed always gives the same arrangement on any JVM
+public final class ShuffleEngine {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // EFFECTS: prevents construction; all methods are static
+    private ShuffleEngine() {
+    }
+
+    // REQUIRES: 0 <= from <= to <= array.length
+    // MODIFIES: array
+    // EFFECTS: randomly permutes array[from, to) in place, using the given seed
+    public static void shuffle(int[] array, int from, int to, long seed) {
+        shuffle(array, from, to, new SplitMix64(seed));
+    }
+
+    // REQUIRES: 0 <= from <= to <= array.length
+    // MODIFIES: array
+    // EFFECTS: randomly permutes array[from, to) in place, using the given seed; gives the same
+    //          permutation as shuffling an int array of the same range with that seed
+    public static void shuffle(Object[] array, int from, int to, long seed) {
+        shuffle(array, from, to, new SplitMix64(seed));
+    }
+
+    // REQUIRES: 0 <= from <= to <= array.length
+    // MODIFIES: array, random
+    // EFFECTS: randomly permutes array[from, to) in place, taking indices from random
+    public static void shuffle(int[] array, int from, int to, IndexGenerator random) {
+        permute(from, to, random, (i, j) -> {
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        });
+    }
+
+    // REQUIRES: 0 <= from <= to <= array.length
+    // MODIFIES: array, random
+    // EFFECTS: randomly permutes array[from, to) in place, taking indices from random; gives the same
+    //          permutation as shuffling an int array of the same range with a generator in the same state
+    public static void shuffle(Object[] array, int from, int to, IndexGenerator random) {
+        permute(from, to, random, (i, j) -> {
+            Object temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        });
+    }
+
+    // MODIFIES: random
+    // EFFECTS: runs the Fisher-Yates swaps that permute the range [from, to), taking indices from random
+    private static void permute(int from, int to, IndexGenerator random, Swap swap) {
+        for (int i = to - 1; i > from; i--) {
+            swap.swap(i, from + random.nextIndex(i - from + 1));
+        }
+    }
+
+    // Swaps the elements at two indices of an array
+    private interface Swap {
+
+        // EFFECTS: swaps the elements at i and j
+        void swap(int i, int j);
+    }
+
+    // A SplitMix64 generator started from a seed, mapping each output onto an index by multiplying and shifting
+    private static final class SplitMix64 implements IndexGenerator {
+        private long state;
+
+        // EFFECTS: constructs a generator in the given state
+        SplitMix64(long seed) {
+            this.state = seed;
+        }
+
+        @Override
+        public int nextIndex(int bound) {
+            this.state = this.state + GOLDEN_GAMMA;
+            long z = this.state;
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            z = z ^ (z >>> 31);
+            return (int) (((z >>> 32) * bound) >>> 32);
+        }
+    }
+}
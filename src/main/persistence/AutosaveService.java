@@ -0,0 +1,135 @@
+package persistence;
+
+import model.GameState;
+import model.MatchingGame;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// Saves games to a SaveStore on a background thread, so the thread that asks for a save never waits on the disk.
+// Requests that arrive while a save is being written are merged: only the latest of them is written next.
+// Single guesses are appended to the save's journal instead, and every compactEvery guesses the whole game is
+// saved again, so a guess costs O(1) to save on average whatever the size of the board. A failed save is kept
+// and reported by the next flush. Requests and guesses must all come from the one thread that plays the game.
+public class AutosaveService {
+    public static final int DEFAULT_COMPACT_EVERY = 64;
+
+    private final SaveStore store;
+    private final int compactEvery;                       // number of guesses journalled between full saves
+    private int guessesSinceSave;                         // number of guesses journalled since the last request
+    private final ExecutorService writer;                 // the one thread that writes saves
+    private final AtomicReference<Request> pending;       // latest request not yet being written, or null
+    private final AtomicReference<IOException> failure;   // first save that failed since the last flush, or null
+
+    // EFFECTS: constructs a service saving to store with its own background thread, which does not keep
+    //          the application running, saving whole games every DEFAULT_COMPACT_EVERY guesses
+    public AutosaveService(SaveStore store) {
+        this(store, DEFAULT_COMPACT_EVERY);
+    }
+
+    // REQUIRES: compactEvery >= 1
+    // EFFECTS: constructs a service saving to store with its own background thread, which does not keep
+    //          the application running, saving whole games every compactEvery guesses
+    public AutosaveService(SaveStore store, int compactEvery) {
+        this.store = store;
+        this.compactEvery = compactEvery;
+        this.guessesSinceSave = 0;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pending = new AtomicReference<>();
+        this.failure = new AtomicReference<>();
+    }
+
+    // REQUIRES: game is not changed after this call (pass the snapshot of a game that is still being played)
+    // MODIFIES: this
+    // EFFECTS: asks for game to be saved under name in the background, replacing any request that has not
+    //          started being written yet; returns without waiting
+    public void request(String name, GameState game) {
+        this.guessesSinceSave = 0;
+        if (this.pending.getAndSet(new Request(name, game)) == null) {
+            this.writer.execute(this::writeLatest);
+        }
+    }
+
+    // REQUIRES: game has been saved under name, and has just played its latest guess at the two location numbers
+    //          with the given result
+    // MODIFIES: this
+    // EFFECTS: asks for the guess to be appended to the journal of the save in the background, or, every
+    //          compactEvery guesses, for the game's latest snapshot to be saved instead; returns without waiting
+    public void recordGuess(String name, MatchingGame game, int locationNum1, int locationNum2, boolean match) {
+        this.guessesSinceSave = this.guessesSinceSave + 1;
+        if (this.guessesSinceSave >= this.compactEvery) {
+            request(name, game.snapshot());
+            return;
+        }
+        int guessNumber = game.getNumGuesses();
+        this.writer.execute(() -> {
+            try {
+                this.store.appendGuess(name, guessNumber, locationNum1, locationNum2, match);
+            } catch (IOException e) {
+                this.failure.compareAndSet(null, e);
+            }
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: waits until every request and guess made so far has been written; throws IOException if a save has
+    //          failed since the last flush, or if interrupted while waiting
+    public void flush() throws IOException {
+        try {
+            this.writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for saves to be written", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        IOException failed = this.failure.getAndSet(null);
+        if (failed != null) {
+            throw failed;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: once every request and guess made so far has been written, gives onFlushed the first save that
+    //          failed since the last flush, or null if none did, on the publisher's thread; returns without waiting
+    public void flushThen(Executor publisher, Consumer<IOException> onFlushed) {
+        this.writer.execute(() -> {
+            IOException failed = this.failure.getAndSet(null);
+            publisher.execute(() -> onFlushed.accept(failed));
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the latest request, if it has not been written already, keeping the first failure
+    private void writeLatest() {
+        Request request = this.pending.getAndSet(null);
+        if (request != null) {
+            try {
+                this.store.save(request.name, request.game);
+            } catch (IOException e) {
+                this.failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    // A game to be saved and the name to save it under
+    private static class Request {
+        private final String name;
+        private final GameState game;
+
+        // EFFECTS: constructs a request to save game under name
+        Request(String name, GameState game) {
+            this.name = name;
+            this.game = game;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package persistence;
+
+// The layout of a binary save, version 1. Varints are unsigned LEB128 (7 bits per byte, low bits first).
+//     magic               4 bytes, "MGSV" (a JSON save starts with '{' or whitespace instead)
+//     version             1 byte
+//     number of guesses   varint
+//     number of matches   varint
+//     seed                8 bytes, big-endian
+//     identities in use   varint count, then each identity as a varint byte length and its UTF-8 bytes
+//     card amount         varint n
+//     card identities     n varints, the ordinal (index into the identities in use) of the card at
+//                         locations 1 to n
+//     matched bitmap      (n + 7) / 8 bytes; bit (i - 1) % 8 of byte (i - 1) / 8 is set if location i is matched
+final class BinaryFormat {
+    static final byte[] MAGIC = {'M', 'G', 'S', 'V'};
+    static final int VERSION = 1;
+
+    // EFFECTS: prevents instantiation; BinaryFormat only holds constants
+    private BinaryFormat() {
+    }
+
+    // EFFECTS: returns true if the first bytes of a file, given in header, are the binary save magic
+    static boolean isMagic(byte[] header) {
+        if (header.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+// Reads the values of a binary save from a channel through a fixed-size buffer
+class BinaryInput {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private long position;          // number of bytes consumed so far, for error messages
+
+    // EFFECTS: constructs an input reading from channel
+    BinaryInput(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.buffer.flip();
+        this.position = 0;
+    }
+
+    // EFFECTS: returns the number of bytes consumed so far
+    long getPosition() {
+        return this.position;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next byte, as a value in [0, 255]; throws IOException at end of input
+    int nextByte() throws IOException {
+        if (!this.buffer.hasRemaining()) {
+            this.buffer.clear();
+            int read = this.channel.read(this.buffer);
+            this.buffer.flip();
+            if (read <= 0) {
+                throw new IOException("Bad save: unexpected end of input at byte " + this.position);
+            }
+        }
+        this.position = this.position + 1;
+        return this.buffer.get() & 0xff;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next varint, which must fit in a non-negative int; throws IOException
+    //          if it does not
+    int nextVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift = shift + 7) {
+            int b = nextByte();
+            value = value | ((b & 0x7f) << shift);
+            if ((b & 0x80) == 0) {
+                if (shift == 28 && b > 0x07) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Bad save: varint out of range at byte " + this.position);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next 8 bytes as a big-endian long
+    long nextLong() throws IOException {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | nextByte();
+        }
+        return value;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next length bytes
+    byte[] nextBytes(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) nextByte();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,54 @@
+package persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Writes the values of a binary save to an output stream through a fixed-size buffer
+class BinaryOutput {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DataOutputStream out;
+
+    // EFFECTS: constructs an output writing to out
+    BinaryOutput(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the low 8 bits of b
+    void writeByte(int b) throws IOException {
+        this.out.writeByte(b);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes bytes as they are
+    void writeBytes(byte[] bytes) throws IOException {
+        this.out.write(bytes);
+    }
+
+    // REQUIRES: value >= 0
+    // MODIFIES: this
+    // EFFECTS: writes value as a varint
+    void writeVarint(int value) throws IOException {
+        int rest = value;
+        while (rest >= 0x80) {
+            this.out.writeByte((rest & 0x7f) | 0x80);
+            rest = rest >>> 7;
+        }
+        this.out.writeByte(rest);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes value as 8 big-endian bytes
+    void writeLong(long value) throws IOException {
+        this.out.writeLong(value);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes all buffered bytes and closes the output stream
+    void close() throws IOException {
+        this.out.close();
+    }
+}
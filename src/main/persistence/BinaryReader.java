@@ -0,0 +1,106 @@
+package persistence;
+
+import metrics.LatencyHistogram;
+import metrics.LoadEvent;
+import metrics.MetricsRegistry;
+import model.BoardStorage;
+import model.MatchingGame;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+// A reader that reads a matching game from a file in the binary save format described in BinaryFormat
+public class BinaryReader {
+    private static final LatencyHistogram READ_LATENCY = MetricsRegistry.getInstance().histogram("BinaryReader.read");
+
+    private String source;
+    private BoardStorage storage;
+
+    // EFFECTS: constructs a reader to read from source file into games stored as Card objects
+    public BinaryReader(String source) {
+        this(source, BoardStorage.OBJECTS);
+    }
+
+    // EFFECTS: constructs a reader to read from source file into games kept in the given board storage
+    public BinaryReader(String source, BoardStorage storage) {
+        this.source = source;
+        this.storage = storage;
+    }
+
+    // EFFECTS: reads the matching game from file and returns it; throws IOException if an error occurs
+    //          while reading data from file, the file is not a binary save, or its version is not supported
+    public MatchingGame read() throws IOException {
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        MatchingGame game = null;
+        try {
+            game = readGame();
+            return game;
+        } finally {
+            READ_LATENCY.recordSince(start);
+            event.finish("binary", this.source, game == null ? 0 : game.getCardAmount());
+        }
+    }
+
+    // EFFECTS: reads the matching game from file and returns it;
+    //          throws IOException if the file is not a supported binary save
+    private MatchingGame readGame() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(this.source), StandardOpenOption.READ)) {
+            BinaryInput in = new BinaryInput(channel);
+            if (!BinaryFormat.isMagic(in.nextBytes(BinaryFormat.MAGIC.length))) {
+                throw new IOException("Bad save: " + this.source + " is not a binary save");
+            }
+            int version = in.nextByte();
+            if (version != BinaryFormat.VERSION) {
+                throw new IOException("Bad save: binary save version " + version + " is not supported");
+            }
+            return parseMatchingGame(in, channel.size());
+        }
+    }
+
+    // EFFECTS: parses the rest of a version 1 binary save of fileSize bytes and returns its game; throws
+    //          IOException if the card amount is odd or more than the rest of the file could hold, or if a card has
+    //          an identity ordinal outside the identities in use or an identity is not on exactly two cards
+    private MatchingGame parseMatchingGame(BinaryInput in, long fileSize) throws IOException {
+        int numGuesses = in.nextVarint();
+        int numMatches = in.nextVarint();
+        long seed = in.nextLong();
+        List<String> identities = new ArrayList<>();
+        for (int i = in.nextVarint(); i > 0; i--) {
+            identities.add(new String(in.nextBytes(in.nextVarint()), StandardCharsets.UTF_8));
+        }
+        int cardAmount = in.nextVarint();
+        SaveChecks.checkCardAmount(cardAmount, fileSize - in.getPosition());
+        int[] ordinals = readOrdinals(in, cardAmount, identities);
+        BitSet matched = new BitSet(cardAmount + 1);
+        for (int i = 0; i < cardAmount; i = i + 8) {
+            int bits = in.nextByte();
+            for (int j = 0; j < 8 && i + j < cardAmount; j++) {
+                matched.set(i + j + 1, (bits & (1 << j)) != 0);
+            }
+        }
+        return new MatchingGame(identities, ordinals, matched, numGuesses, numMatches, seed, this.storage);
+    }
+
+    // EFFECTS: reads the identity ordinal of the card at each of locations 1 to cardAmount, indexed by location
+    //          number; throws IOException if a card has an ordinal outside identities or an identity is not on
+    //          exactly two cards
+    private static int[] readOrdinals(BinaryInput in, int cardAmount, List<String> identities) throws IOException {
+        int[] ordinals = new int[cardAmount + 1];
+        for (int i = 1; i <= cardAmount; i++) {
+            ordinals[i] = in.nextVarint();
+            if (ordinals[i] >= identities.size()) {
+                throw new IOException("Bad save: card at location " + i + " has an identity that is not in use");
+            }
+        }
+        SaveChecks.checkPairs(ordinals, 1, cardAmount + 1, identities);
+        return ordinals;
+    }
+}
@@ -0,0 +1,93 @@
+package persistence;
+
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.SaveEvent;
+import model.GameState;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A writer that writes a matching game to a file in the binary save format described in BinaryFormat
+public class BinaryWriter {
+    private static final LatencyHistogram WRITE_LATENCY =
+            MetricsRegistry.getInstance().histogram("BinaryWriter.write");
+
+    private BinaryOutput out;
+    private String destination;
+
+    // EFFECTS: constructs writer to write to destination file
+    public BinaryWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens the writer; throws FileNotFoundException if destination file
+    //          cannot be opened for writing
+    public void open() throws FileNotFoundException {
+        this.out = new BinaryOutput(new FileOutputStream(this.destination));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the matching game to file in the binary save format; throws IOException
+    //          if an error occurs while writing
+    public void write(GameState mg) throws IOException {
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        writeGame(mg);
+        WRITE_LATENCY.recordSince(start);
+        event.finish("binary", this.destination, mg.getCardAmount());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the matching game to file
+    private void writeGame(GameState mg) throws IOException {
+        this.out.writeBytes(BinaryFormat.MAGIC);
+        this.out.writeByte(BinaryFormat.VERSION);
+        this.out.writeVarint(mg.getNumGuesses());
+        this.out.writeVarint(mg.getNumMatches());
+        this.out.writeLong(mg.getSeed());
+        List<String> identities = mg.getCardIdentities();
+        Map<String, Integer> ordinals = new HashMap<>();
+        this.out.writeVarint(identities.size());
+        for (String identity : identities) {
+            ordinals.put(identity, ordinals.size());
+            byte[] bytes = identity.getBytes(StandardCharsets.UTF_8);
+            this.out.writeVarint(bytes.length);
+            this.out.writeBytes(bytes);
+        }
+        this.out.writeVarint(mg.getCardAmount());
+        for (int i = 1; i <= mg.getCardAmount(); i++) {
+            this.out.writeVarint(ordinals.get(mg.getIdentityAt(i)));
+        }
+        writeMatched(mg);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the writer, making sure everything written reaches the file; throws IOException
+    //          if an error occurs while writing
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the bitmap of matched locations, eight locations per byte
+    private void writeMatched(GameState mg) throws IOException {
+        int bits = 0;
+        for (int i = 1; i <= mg.getCardAmount(); i++) {
+            if (mg.isCardMatched(i)) {
+                bits = bits | (1 << ((i - 1) % 8));
+            }
+            if (i % 8 == 0 || i == mg.getCardAmount()) {
+                this.out.writeByte(bits);
+                bits = 0;
+            }
+        }
+    }
+}
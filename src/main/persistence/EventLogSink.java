@@ -0,0 +1,288 @@
+package persistence;
+
+import model.Event;
+import model.EventLog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Writes the events in an EventLog to rolling log files in a directory, one line per event, on a background
+// thread that drains the log in batches. The current file is events.log; once it reaches a size or an age, it is
+// renamed after the time of rotation and a new one is started, and only the newest rotated files are kept.
+// All file work happens on the background thread, so flushing or closing only writes the last batch. Events whose
+// lines cannot be written are counted and noted in the file by the next drain that succeeds, and a background drain
+// that fails is reported by the next flush or close.
+public class EventLogSink {
+    public static final long DEFAULT_MAX_FILE_BYTES = 10L * 1024 * 1024;
+    public static final long DEFAULT_MAX_FILE_AGE_MILLIS = 24L * 60 * 60 * 1000;
+    public static final int DEFAULT_MAX_FILES = 10;
+    public static final long DEFAULT_DRAIN_INTERVAL_MILLIS = 1000;
+    static final String CURRENT_FILE = "events.log";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final DateTimeFormatter LINE_TIME =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final DateTimeFormatter ROTATED_NAME =
+            DateTimeFormatter.ofPattern("'events-'yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+
+    private final EventLog log;
+    private final Path directory;
+    private final long maxFileBytes;           // size at which the current file is rotated
+    private final long maxFileAgeMillis;       // age at which the current file is rotated
+    private final int maxFiles;                // number of rotated files kept
+    private final long drainIntervalMillis;    // time between drains
+    private final ScheduledExecutorService drainer;
+    private final ByteBuffer buffer;           // lines not yet written to the current file
+    private final List<Event> batch;           // events read from the log but not yet put in the buffer
+    private FileChannel channel;               // the current file, or null if not open
+    private long fileBytes;                    // number of bytes written to the current file
+    private long fileOpenedMillis;             // time the current file was opened
+    private long nextSequence;                 // sequence number of the next event to write
+    private int bufferedEvents;                // number of events whose lines are in the buffer
+    private long unwritten;                    // number of events dropped by failed writes and not yet noted
+    private long noted;                        // number of those noted by a line in the buffer
+    private IOException failure;               // first background drain that failed since the last flush, or null
+
+    // EFFECTS: constructs a sink writing log to files in directory with the default rotation and drain interval,
+    //          starting with the events logged from now on
+    public EventLogSink(EventLog log, String directory) {
+        this(log, directory, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_FILE_AGE_MILLIS, DEFAULT_MAX_FILES,
+                DEFAULT_DRAIN_INTERVAL_MILLIS);
+    }
+
+    // REQUIRES: maxFileBytes, maxFileAgeMillis and drainIntervalMillis > 0, maxFiles >= 0
+    // EFFECTS: constructs a sink writing log to files in directory, rotating the current file once it holds
+    //          maxFileBytes or is maxFileAgeMillis old, keeping maxFiles rotated files and draining the log every
+    //          drainIntervalMillis once started, starting with the events logged from now on
+    public EventLogSink(EventLog log, String directory, long maxFileBytes, long maxFileAgeMillis, int maxFiles,
+                        long drainIntervalMillis) {
+        this.log = log;
+        this.directory = Paths.get(directory);
+        this.maxFileBytes = maxFileBytes;
+        this.maxFileAgeMillis = maxFileAgeMillis;
+        this.maxFiles = maxFiles;
+        this.drainIntervalMillis = drainIntervalMillis;
+        this.drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "event-log-sink");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.batch = new ArrayList<>();
+        this.nextSequence = log.getNextSequence();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts draining the log to file in the background
+    public void start() {
+        this.drainer.scheduleWithFixedDelay(() -> {
+            try {
+                drain();
+            } catch (IOException e) {
+                if (this.failure == null) {
+                    this.failure = e;
+                }
+            }
+        }, this.drainIntervalMillis, this.drainIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes every event logged so far to file and forces it to disk; throws IOException if
+    //          the events cannot be written, or if a background drain has failed since the last flush
+    public void flush() throws IOException {
+        onDrainer(() -> {
+            drain();
+            if (this.channel != null) {
+                this.channel.force(false);
+            }
+            reportFailure();
+            return null;
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes every event logged so far to file, closes the file and stops draining; throws IOException
+    //          if the events cannot be written, or if a background drain has failed since the last flush
+    public void close() throws IOException {
+        try {
+            onDrainer(() -> {
+                drain();
+                closeFile();
+                reportFailure();
+                return null;
+            });
+        } finally {
+            this.drainer.shutdown();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: throws the first background drain failure since the last flush, if there is one, and forgets it
+    private void reportFailure() throws IOException {
+        IOException failed = this.failure;
+        this.failure = null;
+        if (failed != null) {
+            throw failed;
+        }
+    }
+
+    // EFFECTS: runs task on the background thread and waits for it, rethrowing its IOException
+    private void onDrainer(Callable<Void> task) throws IOException {
+        try {
+            this.drainer.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing events", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the events logged since the last drain to the current file, rotating it as needed, and
+    //          notes how many events were overwritten in the log, or dropped by failed writes, before they could
+    //          be written. If writing fails, the events taken from the log whose lines have not reached the file
+    //          are dropped and counted, so no event is ever written twice
+    private void drain() throws IOException {
+        long oldest = Math.max(this.nextSequence, this.log.getNextSequence() - EventLog.CAPACITY);
+        int appended = 0;
+        try {
+            noteMissingEvents(oldest);
+            this.nextSequence = this.log.readFrom(oldest, this.batch);
+            for (Event e : this.batch) {
+                append(Instant.ofEpochSecond(0, e.getTimeNanos()), e.getDescription());
+                appended = appended + 1;
+                this.bufferedEvents = this.bufferedEvents + 1;
+            }
+            writeBuffer();
+        } catch (IOException | RuntimeException e) {
+            this.unwritten = this.unwritten + this.bufferedEvents + this.batch.size() - appended;
+            this.noted = 0;
+            this.bufferedEvents = 0;
+            this.buffer.clear();
+            throw e;
+        } finally {
+            this.batch.clear();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds lines to the buffer for the events overwritten in the log since nextSequence, before the
+    //          oldest still in it, and for the events dropped by failed writes
+    private void noteMissingEvents(long oldest) throws IOException {
+        if (oldest > this.nextSequence) {
+            append(Instant.now(), (oldest - this.nextSequence) + " events were overwritten before being written");
+        }
+        if (this.unwritten > 0) {
+            append(Instant.now(), this.unwritten + " events could not be written");
+            this.noted = this.unwritten;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a line with the given time and text to the buffer, first writing out the buffer if the line
+    //          does not fit and rotating the file if the line would take it past its size or age
+    private void append(Instant time, String text) throws IOException {
+        byte[] line = (LINE_TIME.format(time) + " " + text + "\n").getBytes(StandardCharsets.UTF_8);
+        if (this.channel == null) {
+            openFile();
+        }
+        if (this.fileBytes + this.buffer.position() + line.length > this.maxFileBytes
+                || System.currentTimeMillis() - this.fileOpenedMillis >= this.maxFileAgeMillis) {
+            writeBuffer();
+            if (this.fileBytes > 0) {
+                rotate();
+            }
+        }
+        if (line.length > this.buffer.remaining()) {
+            writeBuffer();
+        }
+        if (line.length > this.buffer.capacity()) {
+            write(ByteBuffer.wrap(line));
+        } else {
+            this.buffer.put(line);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes out the buffer to the current file and empties it
+    private void writeBuffer() throws IOException {
+        this.buffer.flip();
+        write(this.buffer);
+        this.buffer.clear();
+        this.bufferedEvents = 0;
+        this.unwritten = this.unwritten - this.noted;
+        this.noted = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes all of bytes to the current file
+    private void write(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            this.fileBytes = this.fileBytes + this.channel.write(bytes);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens the current file for appending, creating the directory and file if they do not exist
+    private void openFile() throws IOException {
+        Files.createDirectories(this.directory);
+        this.channel = FileChannel.open(this.directory.resolve(CURRENT_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.fileBytes = this.channel.size();
+        this.fileOpenedMillis = System.currentTimeMillis();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the current file, if it is open
+    private void closeFile() throws IOException {
+        if (this.channel != null) {
+            this.channel.close();
+            this.channel = null;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: renames the current file after the time of rotation, deletes the oldest rotated files beyond
+    //          maxFiles, and opens a new current file
+    private void rotate() throws IOException {
+        closeFile();
+        String name = ROTATED_NAME.format(Instant.now());
+        Path rotated = this.directory.resolve(name + ".log");
+        for (int i = 1; Files.exists(rotated); i++) {
+            rotated = this.directory.resolve(name + "-" + i + ".log");
+        }
+        Files.move(this.directory.resolve(CURRENT_FILE), rotated);
+        List<Path> old = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory, "events-*.log")) {
+            for (Path file : files) {
+                old.add(file);
+            }
+        }
+        Collections.sort(old);
+        for (int i = 0; i < old.size() - this.maxFiles; i++) {
+            Files.deleteIfExists(old.get(i));
+        }
+        openFile();
+    }
+}
@@ -0,0 +1,129 @@
+package persistence;
+
+import model.BoardStorage;
+import model.MatchingGame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Collects the parts of a save as they are read, keeping cards in primitive arrays, so that a game can be
+// built once the whole save has been read (its parts may come in any order)
+class GameBuffer {
+    private int[] locationNums;               // location number of each card read, in reading order
+    private int[] identityNums;               // identity of each card read, as its index in identities
+    private final BitSet matched;             // bit i is set if the card at location i has been matched
+    private int size;                         // number of cards read
+    private final List<String> identities;    // identities of the cards read, in order of first appearance
+    private final Map<String, Integer> identityNumbers;   // index of each identity in identities
+    private List<String> cardIdentities;      // identities in use by the game, or null if not read
+    private int numGuesses;
+    private int numMatches;
+    private long seed;
+
+    // EFFECTS: constructs an empty buffer with 0 guesses, 0 matches and a randomly chosen seed
+    GameBuffer() {
+        this.locationNums = new int[16];
+        this.identityNums = new int[16];
+        this.matched = new BitSet();
+        this.size = 0;
+        this.identities = new ArrayList<>();
+        this.identityNumbers = new HashMap<>();
+        this.cardIdentities = null;
+        this.numGuesses = 0;
+        this.numMatches = 0;
+        this.seed = ThreadLocalRandom.current().nextLong();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the identities in use by the game
+    void setCardIdentities(List<String> cardIdentities) {
+        this.cardIdentities = cardIdentities;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the number of guesses made
+    void setNumGuesses(int numGuesses) {
+        this.numGuesses = numGuesses;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the number of matches made
+    void setNumMatches(int numMatches) {
+        this.numMatches = numMatches;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the seed the board was arranged with
+    void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records a card with the given identity, location number and status
+    void addCard(String identity, int locationNum, boolean status) {
+        if (this.size == this.locationNums.length) {
+            this.locationNums = Arrays.copyOf(this.locationNums, 2 * this.size);
+            this.identityNums = Arrays.copyOf(this.identityNums, 2 * this.size);
+        }
+        Integer identityNum = this.identityNumbers.get(identity);
+        if (identityNum == null) {
+            identityNum = this.identities.size();
+            this.identities.add(identity);
+            this.identityNumbers.put(identity, identityNum);
+        }
+        this.locationNums[this.size] = locationNum;
+        this.identityNums[this.size] = identityNum;
+        if (locationNum > 0) {
+            this.matched.set(locationNum, status);
+        }
+        this.size = this.size + 1;
+    }
+
+    // EFFECTS: returns a game, kept in the given storage, holding everything read; if no identities in use were
+    //          read, the identities of the cards in order of appearance are used; throws IOException if the cards
+    //          do not fill locations [1, number of cards] exactly once each, use an identity that is not in use,
+    //          or do not come in pairs of exactly two cards per identity
+    MatchingGame toGame(BoardStorage storage) throws IOException {
+        SaveChecks.checkCardAmount(this.size, Integer.MAX_VALUE - 1);
+        SaveChecks.checkPairs(this.identityNums, 0, this.size, this.identities);
+        List<String> inUse = this.cardIdentities == null ? this.identities : this.cardIdentities;
+        int[] positions = positionsIn(inUse);
+        int[] ordinals = new int[this.size + 1];
+        BitSet filled = new BitSet(this.size + 1);
+        for (int i = 0; i < this.size; i++) {
+            int locationNum = this.locationNums[i];
+            if (locationNum < 1 || locationNum > this.size || filled.get(locationNum)) {
+                throw new IOException("Bad save: card at location " + locationNum + " is out of place");
+            }
+            filled.set(locationNum);
+            ordinals[locationNum] = positions[this.identityNums[i]];
+        }
+        return new MatchingGame(inUse, ordinals, this.matched, this.numGuesses, this.numMatches, this.seed,
+                storage);
+    }
+
+    // EFFECTS: returns the position in inUse of every identity read, by identity number; throws IOException
+    //          if a card identity is not in inUse
+    private int[] positionsIn(List<String> inUse) throws IOException {
+        int[] positions = new int[this.identities.size()];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < inUse.size(); i++) {
+            Integer identityNum = this.identityNumbers.get(inUse.get(i));
+            if (identityNum != null) {
+                positions[identityNum] = i;
+            }
+        }
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] < 0) {
+                throw new IOException("Bad save: card identity '" + this.identities.get(i) + "' is not in use");
+            }
+        }
+        return positions;
+    }
+}
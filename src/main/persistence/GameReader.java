@@ -0,0 +1,51 @@
+package persistence;
+
+import model.BoardStorage;
+import model.MatchingGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// A reader that reads a matching game from a file in either save format, telling them apart by the first bytes
+// of the file: binary saves start with BinaryFormat.MAGIC, anything else is read as JSON
+public class GameReader {
+    private String source;
+    private BoardStorage storage;
+
+    // EFFECTS: constructs a reader to read from source file into games stored as Card objects
+    public GameReader(String source) {
+        this(source, BoardStorage.OBJECTS);
+    }
+
+    // EFFECTS: constructs a reader to read from source file into games kept in the given board storage
+    public GameReader(String source, BoardStorage storage) {
+        this.source = source;
+        this.storage = storage;
+    }
+
+    // EFFECTS: reads the matching game from file, in whichever format it was saved, and returns it;
+    //          throws IOException if an error occurs while reading data from file or the data is not a valid save
+    public MatchingGame read() throws IOException {
+        if (isBinary()) {
+            return new BinaryReader(this.source, this.storage).read();
+        }
+        return new JsonReader(this.source, this.storage).read();
+    }
+
+    // EFFECTS: returns true if source file starts with the binary save magic
+    public boolean isBinary() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(this.source), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(BinaryFormat.MAGIC.length);
+            while (header.hasRemaining() && channel.read(header) > 0) {
+                // keep reading until the header is full or the file ends
+            }
+            byte[] bytes = new byte[header.position()];
+            header.flip();
+            header.get(bytes);
+            return BinaryFormat.isMagic(bytes);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package persistence;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Writes JSON tokens as UTF-8 bytes straight into a fixed-size buffer that is drained to an output stream,
+// either indented (like JSONObject.toString(4)) or compact, without building a tree or a String of the document
+class JsonEmitter {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int TAB = 4;
+
+    private final OutputStream out;
+    private final boolean compact;      // true if no whitespace is written
+    private final byte[] buffer;
+    private int count;                  // number of bytes in buffer
+    private final byte[] digits;        // scratch space for writing numbers
+    private int depth;                  // number of objects and arrays that are open
+    private boolean first;              // true if the next value is the first in its object or array
+    private boolean afterKey;           // true if a key has been written and its value has not
+
+    // EFFECTS: constructs an emitter writing to out, compact or indented
+    JsonEmitter(OutputStream out, boolean compact) {
+        this.out = out;
+        this.compact = compact;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.count = 0;
+        this.digits = new byte[20];
+        this.depth = 0;
+        this.first = true;
+        this.afterKey = false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the start of an object (or of an array, if array is true)
+    void begin(boolean array) throws IOException {
+        separate();
+        put(array ? '[' : '{');
+        this.depth = this.depth + 1;
+        this.first = true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the end of an object (or of an array, if array is true)
+    void end(boolean array) throws IOException {
+        this.depth = this.depth - 1;
+        if (!this.first) {
+            newLine();
+        }
+        put(array ? ']' : '}');
+        this.first = false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the key of the next member of the current object
+    void key(String name) throws IOException {
+        value(name);
+        put(':');
+        if (!this.compact) {
+            put(' ');
+        }
+        this.afterKey = true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a string value
+    void value(String s) throws IOException {
+        separate();
+        put('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                put('\\');
+                put(c);
+            } else if (c < 0x20) {
+                putControl(c);
+            } else if (c < 0x80) {
+                put(c);
+            } else {
+                int codePoint = s.codePointAt(i);
+                putUtf8(codePoint);
+                i = i + Character.charCount(codePoint) - 1;
+            }
+        }
+        put('"');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a number value, without allocating
+    void value(long n) throws IOException {
+        separate();
+        if (n < 0) {
+            put('-');
+        }
+        long rest = n;
+        int length = 0;
+        do {
+            this.digits[length++] = (byte) ('0' + Math.abs(rest % 10));
+            rest = rest / 10;
+        } while (rest != 0);
+        while (length > 0) {
+            put(this.digits[--length]);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes all buffered bytes to the output stream and closes it
+    void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            this.out.close();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the comma and line break that come before a value, unless the value follows its key
+    private void separate() throws IOException {
+        if (this.afterKey) {
+            this.afterKey = false;
+            return;
+        }
+        if (this.depth > 0) {
+            if (!this.first) {
+                put(',');
+            }
+            newLine();
+        }
+        this.first = false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts a new, indented line unless compact
+    private void newLine() throws IOException {
+        if (!this.compact) {
+            put('\n');
+            for (int i = 0; i < this.depth * TAB; i++) {
+                put(' ');
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a control character as a \\u escape
+    private void putControl(char c) throws IOException {
+        put('\\');
+        put('u');
+        put('0');
+        put('0');
+        put(Character.forDigit(c >> 4, 16));
+        put(Character.forDigit(c & 0xf, 16));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the UTF-8 encoding of a non-ASCII code point
+    private void putUtf8(int codePoint) throws IOException {
+        if (codePoint < 0x800) {
+            put(0xc0 | (codePoint >> 6));
+        } else if (codePoint < 0x10000) {
+            put(0xe0 | (codePoint >> 12));
+            put(0x80 | ((codePoint >> 6) & 0x3f));
+        } else {
+            put(0xf0 | (codePoint >> 18));
+            put(0x80 | ((codePoint >> 12) & 0x3f));
+            put(0x80 | ((codePoint >> 6) & 0x3f));
+        }
+        put(0x80 | (codePoint & 0x3f));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the byte b to the buffer, draining the buffer first if it is full
+    private void put(int b) throws IOException {
+        if (this.count == this.buffer.length) {
+            drain();
+        }
+        this.buffer[this.count++] = (byte) b;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the buffered bytes to the output stream and empties the buffer
+    private void drain() throws IOException {
+        this.out.write(this.buffer, 0, this.count);
+        this.count = 0;
+    }
+}
@@ -1,105 +1,151 @@
 package persistence;
 
-import model.Card;
+import metrics.LatencyHistogram;
+import metrics.LoadEvent;
+import metrics.MetricsRegistry;
+import model.BoardStorage;
 import model.MatchingGame;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.nio.channels.FileChannel;
 import java.nio.file.Paths;
-import java.util.LinkedList;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
-import java.util.Collections;
 
-// A reader that reads a matching game from JSON data stored in a file
+// A reader that reads a matching game from JSON data stored in a file, in a single streaming pass
+// that builds the game directly (no whole-file string or JSON tree is made)
 public class JsonReader {
+    private static final LatencyHistogram READ_LATENCY = MetricsRegistry.getInstance().histogram("JsonReader.read");
+
     private String source;
+    private BoardStorage storage;
 
     // Method taken from JSONReader class in
     // https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo
-    // EFFECTS: constructs a reader to read from source file
+    // EFFECTS: constructs a reader to read from source file into games stored as Card objects
     public JsonReader(String source) {
+        this(source, BoardStorage.OBJECTS);
+    }
+
+    // EFFECTS: constructs a reader to read from source file into games kept in the given board storage
+    public JsonReader(String source, BoardStorage storage) {
         this.source = source;
+        this.storage = storage;
     }
 
     // Method taken from JSONReader class in
     // https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo
     // EFFECTS: reads the matching game from file and returns it; throws IOException
-    //          if an error occurs while reading data from file
+    //          if an error occurs while reading data from file or the data is not a valid save
     public MatchingGame read() throws IOException {
-        String jsonData = readFile(this.source);
-        JSONObject jsonObject = new JSONObject(jsonData);
-        return parseMatchingGame(jsonObject);
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        MatchingGame game = null;
+        try {
+            game = readGame();
+            return game;
+        } finally {
+            READ_LATENCY.recordSince(start);
+            event.finish("json", this.source, game == null ? 0 : game.getCardAmount());
+        }
     }
 
-    // Method taken from JSONReader class in
-    // https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo
-    // EFFECTS: reads the source file as a string and returns it
-    private String readFile(String source) throws IOException {
-        StringBuilder stringBuilder = new StringBuilder();
-
-        try (Stream<String> stream = Files.lines(Paths.get(source), StandardCharsets.UTF_8)) {
-            stream.forEach(s -> stringBuilder.append(s));
+    // EFFECTS: reads the matching game from file and returns it
+    private MatchingGame readGame() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(this.source), StandardOpenOption.READ)) {
+            return parseMatchingGame(new JsonTokenizer(channel));
         }
-        return stringBuilder.toString();
     }
 
-    // EFFECTS: parses a matching game from a JSON object and returns it
-    private MatchingGame parseMatchingGame(JSONObject jsonObject) {
-        int cardAmount = jsonObject.getInt("card amount");
-        List<String> cardIdentities = parseStringList(jsonObject.getJSONArray("card identities"));
-        List<Card> unmatchedCards = parseCardList(jsonObject.getJSONArray("unmatched cards"));
-        LinkedList<Integer> unmatchedLocationNums = parseNumList(jsonObject.getJSONArray(
-                "unmatched location numbers"));
-        List<Card> matchedCards = parseCardList(jsonObject.getJSONArray("matched cards"));
-        int numGuesses = jsonObject.getInt("number of guesses");
-        int numMatches = jsonObject.getInt("number of matches");
-        return new MatchingGame(cardAmount, cardIdentities, unmatchedCards, unmatchedLocationNums,
-                matchedCards, numGuesses, numMatches);
+    // EFFECTS: parses a matching game from a JSON object and returns it; the fields may come in any order,
+    //          derivable fields ("card amount", "unmatched location numbers") are skipped, and saves made before
+    //          seeds were recorded are given a new seed
+    private MatchingGame parseMatchingGame(JsonTokenizer tokens) throws IOException {
+        GameBuffer game = new GameBuffer();
+        tokens.expect('{');
+        do {
+            String key = tokens.nextString();
+            tokens.expect(':');
+            if (key.equals("card identities")) {
+                game.setCardIdentities(parseStringList(tokens));
+            } else if (key.equals("unmatched cards") || key.equals("matched cards")) {
+                parseCardList(tokens, game, key.equals("matched cards"));
+            } else {
+                parseNumber(tokens, key, game);
+            }
+        } while (tokens.consumeIf(','));
+        tokens.expect('}');
+        return game.toGame(this.storage);
     }
 
-
-    // EFFECTS: obtains a list of cards from a JSON object
-    private List<Card> parseCardList(JSONArray jsonArray) {
-        List<Card> cardList = new LinkedList<>();
-        for (Object json : jsonArray) {
-            JSONObject nextCard = (JSONObject) json;
-            cardList.add(parseCard(nextCard));
+    // MODIFIES: game
+    // EFFECTS: parses the value of key into game if key is "number of guesses", "number of matches" or "seed";
+    //          skips the value of any other key
+    private void parseNumber(JsonTokenizer tokens, String key, GameBuffer game) throws IOException {
+        if (key.equals("number of guesses")) {
+            game.setNumGuesses((int) tokens.nextLong());
+        } else if (key.equals("number of matches")) {
+            game.setNumMatches((int) tokens.nextLong());
+        } else if (key.equals("seed")) {
+            game.setSeed(tokens.nextLong());
+        } else {
+            tokens.skipValue();
         }
-        Collections.reverse(cardList);
-        return cardList;
     }
 
-    // EFFECTS: obtains a linked list of integers from a JSON object
-    private LinkedList<Integer> parseNumList(JSONArray jsonArray) {
-        LinkedList<Integer> numList = new LinkedList<>();
-        for (int i = jsonArray.length() - 1; i >= 0; i--) {
-            int num = jsonArray.getInt(i);
-            numList.add(num);
+    // MODIFIES: game
+    // EFFECTS: parses a JSON array of cards into game; a card without a status is matched if matched is true
+    private void parseCardList(JsonTokenizer tokens, GameBuffer game, boolean matched) throws IOException {
+        tokens.expect('[');
+        if (tokens.consumeIf(']')) {
+            return;
         }
-        Collections.reverse(numList);
-        return numList;
+        do {
+            parseCard(tokens, game, matched);
+        } while (tokens.consumeIf(','));
+        tokens.expect(']');
     }
 
-    // EFFECTS: obtains a list of strings from a JSON object
-    private List<String> parseStringList(JSONArray jsonArray) {
-        List<String> stringList = new LinkedList<>();
-        for (int i = jsonArray.length() - 1; i >= 0; i--) {
-            String string = jsonArray.getString(i);
-            stringList.add(string);
+    // MODIFIES: game
+    // EFFECTS: parses a card from a JSON object into game
+    private void parseCard(JsonTokenizer tokens, GameBuffer game, boolean matched) throws IOException {
+        String identity = null;
+        long locationNum = 0;
+        boolean status = matched;
+        tokens.expect('{');
+        do {
+            String key = tokens.nextString();
+            tokens.expect(':');
+            if (key.equals("identity")) {
+                identity = tokens.nextString();
+            } else if (key.equals("location number")) {
+                locationNum = tokens.nextLong();
+            } else if (key.equals("status")) {
+                status = tokens.nextBoolean();
+            } else {
+                tokens.skipValue();
+            }
+        } while (tokens.consumeIf(','));
+        tokens.expect('}');
+        if (identity == null) {
+            throw new IOException("Bad save: card at location " + locationNum + " has no identity");
         }
-        Collections.reverse(stringList);
-        return stringList;
+        game.addCard(identity, (int) locationNum, status);
     }
 
-    // EFFECTS: obtains a card from a JSON object
-    private Card parseCard(JSONObject jsonObject) {
-        String identity = jsonObject.getString("identity");
-        int locationNum = jsonObject.getInt("location number");
-        boolean status = jsonObject.getBoolean("status");
-        return new Card(identity, locationNum, status);
+    // EFFECTS: parses a JSON array of strings into a list
+    private List<String> parseStringList(JsonTokenizer tokens) throws IOException {
+        List<String> strings = new ArrayList<>();
+        tokens.expect('[');
+        if (tokens.consumeIf(']')) {
+            return strings;
+        }
+        do {
+            strings.add(tokens.nextString());
+        } while (tokens.consumeIf(','));
+        tokens.expect(']');
+        return strings;
     }
 }
@@ -0,0 +1,257 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Reads JSON values one token at a time from a byte channel through a fixed-size buffer, so that a document
+// can be parsed in a single pass without holding the whole file, or a tree of it, in memory
+class JsonTokenizer {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private byte[] text;      // UTF-8 bytes of the string being read
+    private long position;    // number of bytes consumed so far, for error messages
+
+    // EFFECTS: constructs a tokenizer that reads from channel
+    JsonTokenizer(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.buffer.flip();
+        this.text = new byte[64];
+        this.position = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: skips whitespace and returns the next byte without consuming it, or -1 at the end of the input
+    int peek() throws IOException {
+        int b = peekByte();
+        while (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+            readByte();
+            b = peekByte();
+        }
+        return b;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the next token if it is the character c and returns true; otherwise returns false
+    boolean consumeIf(char c) throws IOException {
+        if (peek() == c) {
+            readByte();
+            return true;
+        }
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the next token, which must be the character c; throws IOException if it is not
+    void expect(char c) throws IOException {
+        if (!consumeIf(c)) {
+            throw error("'" + c + "'");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next token, which must be a string; throws IOException if it is not
+    String nextString() throws IOException {
+        expect('"');
+        int length = 0;
+        int b = readByte();
+        while (b != '"') {
+            if (b < 0) {
+                throw error("end of string");
+            }
+            length = b == '\\' ? appendEscape(length) : append(length, b);
+            b = readByte();
+        }
+        return new String(this.text, 0, length, StandardCharsets.UTF_8);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next token, which must be a whole number; throws IOException if it is not
+    long nextLong() throws IOException {
+        boolean negative = consumeIf('-');
+        int b = peekByte();
+        if (b < '0' || b > '9') {
+            throw error("a number");
+        }
+        long value = 0;
+        while (b >= '0' && b <= '9') {
+            value = value * 10 + (readByte() - '0');
+            b = peekByte();
+        }
+        if (b == '.' || b == 'e' || b == 'E') {
+            throw error("a whole number");
+        }
+        return negative ? -value : value;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next token, which must be true or false; throws IOException if it is not
+    boolean nextBoolean() throws IOException {
+        if (peek() == 't') {
+            expectWord("true");
+            return true;
+        }
+        expectWord("false");
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the next value, of any kind, without keeping it
+    void skipValue() throws IOException {
+        int b = peek();
+        if (b == '{' || b == '[') {
+            skipContainer((char) b, b == '{' ? '}' : ']');
+        } else if (b == '"') {
+            nextString();
+        } else if (b == 't' || b == 'f') {
+            nextBoolean();
+        } else if (b == 'n') {
+            expectWord("null");
+        } else {
+            while ((b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E') {
+                readByte();
+                b = peekByte();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes an object or array, given its opening and closing characters, without keeping it
+    private void skipContainer(char open, char close) throws IOException {
+        expect(open);
+        if (consumeIf(close)) {
+            return;
+        }
+        do {
+            if (open == '{') {
+                nextString();
+                expect(':');
+            }
+            skipValue();
+        } while (consumeIf(','));
+        expect(close);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the letters of word; throws IOException if the input does not continue with word
+    private void expectWord(String word) throws IOException {
+        peek();
+        for (int i = 0; i < word.length(); i++) {
+            if (readByte() != word.charAt(i)) {
+                throw error(word);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes an escape sequence (after its backslash), appends the character it stands for to text
+    //          at length, and returns the new length of text
+    private int appendEscape(int length) throws IOException {
+        int b = readByte();
+        switch (b) {
+            case 'b': return append(length, '\b');
+            case 'f': return append(length, '\f');
+            case 'n': return append(length, '\n');
+            case 'r': return append(length, '\r');
+            case 't': return append(length, '\t');
+            case 'u': return appendCodePoint(length, readUnicodeEscape());
+            default:
+                if (b < 0) {
+                    throw error("an escape sequence");
+                }
+                return append(length, b);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the hex digits of a \\u escape, and of a second one if the first is a high surrogate,
+    //          and returns the code point they stand for; the second escape must follow straight on, since any
+    //          whitespace in between is part of the string
+    private int readUnicodeEscape() throws IOException {
+        char c = (char) readHex();
+        if (Character.isHighSurrogate(c) && peekByte() == '\\') {
+            readByte();
+            if (readByte() != 'u') {
+                throw error("a low surrogate");
+            }
+            return Character.toCodePoint(c, (char) readHex());
+        }
+        return c;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes four hex digits and returns their value
+    private int readHex() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(readByte(), 16);
+            if (digit < 0) {
+                throw error("a hex digit");
+            }
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the UTF-8 encoding of codePoint to text at length and returns the new length of text
+    private int appendCodePoint(int length, int codePoint) {
+        byte[] bytes = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+        int newLength = length;
+        for (byte b : bytes) {
+            newLength = append(newLength, b);
+        }
+        return newLength;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the byte b to text at length, growing text if needed, and returns the new length of text
+    private int append(int length, int b) {
+        if (length == this.text.length) {
+            this.text = Arrays.copyOf(this.text, 2 * length);
+        }
+        this.text[length] = (byte) b;
+        return length + 1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the next byte without consuming it, refilling the buffer if needed; -1 at end of input
+    private int peekByte() throws IOException {
+        if (!this.buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return this.buffer.get(this.buffer.position()) & 0xff;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next byte, refilling the buffer if needed; -1 at end of input
+    private int readByte() throws IOException {
+        if (!this.buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        this.position = this.position + 1;
+        return this.buffer.get() & 0xff;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: refills the buffer from the channel; returns false if the channel has no more bytes
+    private boolean fill() throws IOException {
+        this.buffer.clear();
+        int read = this.channel.read(this.buffer);
+        while (read == 0) {
+            read = this.channel.read(this.buffer);
+        }
+        this.buffer.flip();
+        return read > 0;
+    }
+
+    // EFFECTS: returns an exception saying what was expected at the current position
+    private IOException error(String expected) {
+        return new IOException("Malformed JSON: expected " + expected + " at byte " + this.position);
+    }
+}
@@ -1,22 +1,37 @@
 package persistence;
 
-import model.MatchingGame;
-import org.json.JSONObject;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.SaveEvent;
+import model.GameState;
 
 import java.io.FileNotFoundException;
-import java.io.PrintWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
 
-// A writer that writes JSON representation of a matching game to a file
+// A writer that writes JSON representation of a matching game to a file, streaming it token by token;
+// state that can be worked out from the rest of the save (the card amount, the unmatched location numbers
+// and the status of each card) is left out
 public class JsonWriter {
-    private static final int TAB = 4;
-    private PrintWriter writer;
+    private static final LatencyHistogram WRITE_LATENCY =
+            MetricsRegistry.getInstance().histogram("JsonWriter.write");
+
+    private JsonEmitter emitter;
     private String destination;
+    private boolean compact;
 
     // Method taken from JSONWriter class in
     // https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo
-    // EFFECTS: constructs writer to write to destination file
+    // EFFECTS: constructs writer to write indented JSON to destination file
     public JsonWriter(String destination) {
+        this(destination, false);
+    }
+
+    // EFFECTS: constructs writer to write to destination file, as compact JSON with no whitespace
+    //          if compact is true, or as indented JSON otherwise
+    public JsonWriter(String destination, boolean compact) {
         this.destination = destination;
+        this.compact = compact;
     }
 
     // Method taken from JSONWriter class in
@@ -25,31 +40,66 @@ public class JsonWriter {
     // EFFECTS: opens the writer; throws FileNotFoundException if destination file
     //          cannot be opened for writing
     public void open() throws FileNotFoundException {
-        this.writer = new PrintWriter(this.destination);
+        this.emitter = new JsonEmitter(new FileOutputStream(this.destination), this.compact);
     }
 
-    // Method taken from JSONWriter class in
-    // https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo
     // MODIFIES: this
-    // EFFECTS: writes a JSON representation of the matching game to file
-    public void write(MatchingGame mg) {
-        JSONObject json = mg.toJson();
-        saveToFile(json.toString(TAB));
+    // EFFECTS: writes a JSON representation of the matching game to file; throws IOException
+    //          if an error occurs while writing
+    public void write(GameState mg) throws IOException {
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        writeGame(mg);
+        WRITE_LATENCY.recordSince(start);
+        event.finish("json", this.destination, mg.getCardAmount());
     }
 
-    // Method taken from JSONWriter class in
-    // https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo
     // MODIFIES: this
-    // EFFECTS: closes the writer
-    public void close() {
-        this.writer.close();
+    // EFFECTS: writes the matching game to file
+    private void writeGame(GameState mg) throws IOException {
+        this.emitter.begin(false);
+        this.emitter.key("card identities");
+        this.emitter.begin(true);
+        for (String identity : mg.getCardIdentities()) {
+            this.emitter.value(identity);
+        }
+        this.emitter.end(true);
+        writeCards(mg, false);
+        writeCards(mg, true);
+        this.emitter.key("number of guesses");
+        this.emitter.value(mg.getNumGuesses());
+        this.emitter.key("number of matches");
+        this.emitter.value(mg.getNumMatches());
+        this.emitter.key("seed");
+        this.emitter.value(mg.getSeed());
+        this.emitter.end(false);
     }
 
     // Method taken from JSONWriter class in
     // https://github.students.cs.ubc.ca/CPSC210/JsonSerializationDemo
     // MODIFIES: this
-    // EFFECTS: writes string to file
-    private void saveToFile(String json) {
-        this.writer.print(json);
+    // EFFECTS: closes the writer, making sure everything written reaches the file; throws IOException
+    //          if an error occurs while writing
+    public void close() throws IOException {
+        this.emitter.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the matched (or unmatched) cards of the game, in order of location number
+    private void writeCards(GameState mg, boolean matched) throws IOException {
+        this.emitter.key(matched ? "matched cards" : "unmatched cards");
+        this.emitter.begin(true);
+        for (int i = 1; i <= mg.getCardAmount(); i++) {
+            if (mg.isCardMatched(i) == matched) {
+                this.emitter.begin(false);
+                this.emitter.key("identity");
+                this.emitter.value(mg.getIdentityAt(i));
+                this.emitter.key("location number");
+                this.emitter.value(i);
+                this.emitter.end(false);
+            }
+        }
+        this.emitter.end(true);
     }
 }
@@ -0,0 +1,127 @@
+package persistence;
+
+import model.MatchingGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+// An append-only file of the guesses made in a game since its last snapshot, so that saving a guess costs one
+// small write whatever the size of the board. Each record holds the number of the guess, its two location numbers
+// and whether they matched, followed by a CRC-32 of those fields:
+//     guess number  4 bytes | location 1  4 bytes | location 2  4 bytes | match  1 byte | CRC-32  4 bytes
+// A record whose guess number is already counted in the snapshot is skipped on replay, so the journal does not
+// have to be cleared in the same step as the snapshot is written. A torn record at the end of the file (from a
+// crash while appending) ends the replay and is cut off, and so does a gap in the guess numbers (from an append
+// that failed): the guesses after it cannot be played, so the game is loaded as it was just before the gap.
+class MoveJournal {
+    static final int RECORD_SIZE = 17;
+    private static final int CHECKED_SIZE = RECORD_SIZE - 4;
+
+    private final Path file;
+
+    // EFFECTS: constructs a journal kept in file, which need not exist yet
+    MoveJournal(Path file) {
+        this.file = file;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends a record of guess number guessNumber at the two location numbers, and forces it to disk
+    void append(int guessNumber, int locationNum1, int locationNum2, boolean match) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.putInt(guessNumber).putInt(locationNum1).putInt(locationNum2).put((byte) (match ? 1 : 0));
+        record.putInt(checksum(record));
+        record.flip();
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            channel.force(false);
+        }
+    }
+
+    // MODIFIES: this, game
+    // EFFECTS: plays every recorded guess that game has not counted yet, in order, up to the first torn record or
+    //          gap in the guess numbers, cuts off the file from there, and returns the number of guesses played;
+    //          the guesses are not kept in the game's history, which is left empty. Throws IOException if a recorded
+    //          guess is not of two different unmatched cards or does not have the recorded result
+    int replay(MatchingGame game) throws IOException {
+        boolean historyEnabled = game.isHistoryEnabled();
+        game.setHistoryEnabled(false);
+        try {
+            return replayRecords(game);
+        } finally {
+            game.setHistoryEnabled(historyEnabled);
+        }
+    }
+
+    // MODIFIES: this, game
+    // EFFECTS: plays every recorded guess that game has not counted yet, as described in replay
+    private int replayRecords(MatchingGame game) throws IOException {
+        if (!Files.exists(this.file)) {
+            return 0;
+        }
+        int played = 0;
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            long goodLength = 0;
+            while (readRecord(channel, record)) {
+                int guessNumber = record.getInt(0);
+                if (guessNumber > game.getNumGuesses() + 1) {
+                    break;
+                }
+                if (guessNumber > game.getNumGuesses()) {
+                    play(game, guessNumber, record.getInt(4), record.getInt(8), record.get(12) == 1);
+                    played = played + 1;
+                }
+                goodLength = goodLength + RECORD_SIZE;
+            }
+            channel.truncate(goodLength);
+        }
+        return played;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every record
+    void clear() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    // MODIFIES: record
+    // EFFECTS: reads the next record into record and returns true, or returns false at the end of the file
+    //          or if the next record is torn
+    private static boolean readRecord(FileChannel channel, ByteBuffer record) throws IOException {
+        record.clear();
+        while (record.hasRemaining()) {
+            if (channel.read(record) < 0) {
+                return false;
+            }
+        }
+        return record.getInt(CHECKED_SIZE) == checksum(record);
+    }
+
+    // MODIFIES: game
+    // REQUIRES: guessNumber is the game's next guess
+    // EFFECTS: plays the recorded guess on game; throws IOException if it is not a guess of two different unmatched
+    //          cards, or does not have the recorded result
+    private static void play(MatchingGame game, int guessNumber, int locationNum1, int locationNum2, boolean match)
+            throws IOException {
+        if (locationNum1 == locationNum2
+                || game.findCard(locationNum1) == null || game.findCard(locationNum2) == null
+                || game.makeGuess(locationNum1, locationNum2) != match) {
+            throw new IOException("Bad journal: guess " + guessNumber + " does not follow on from the saved game");
+        }
+    }
+
+    // EFFECTS: returns the CRC-32 of the fields of record, as an int
+    private static int checksum(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, CHECKED_SIZE);
+        return (int) crc.getValue();
+    }
+}
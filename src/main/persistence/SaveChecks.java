@@ -0,0 +1,39 @@
+package persistence;
+
+import java.io.IOException;
+import java.util.List;
+
+// Checks shared by the save readers that a save describes a game that can be finished: an even number of cards,
+// in which every identity is on exactly two cards or on none
+final class SaveChecks {
+
+    // EFFECTS: prevents instantiation; SaveChecks only holds static methods
+    private SaveChecks() {
+    }
+
+    // EFFECTS: throws IOException if cardAmount is odd or greater than maxCards
+    static void checkCardAmount(long cardAmount, long maxCards) throws IOException {
+        if (cardAmount % 2 != 0) {
+            throw new IOException("Bad save: " + cardAmount + " cards cannot be split into pairs");
+        }
+        if (cardAmount > maxCards) {
+            throw new IOException("Bad save: " + cardAmount + " cards do not fit in the save");
+        }
+    }
+
+    // REQUIRES: every ordinals[i] for i in [from, to) is within [0, identities.size())
+    // EFFECTS: throws IOException if an identity is the ordinal of a number of cards in ordinals[from, to) other
+    //          than 0 or 2
+    static void checkPairs(int[] ordinals, int from, int to, List<String> identities) throws IOException {
+        int[] counts = new int[identities.size()];
+        for (int i = from; i < to; i++) {
+            counts[ordinals[i]]++;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0 && counts[i] != 2) {
+                throw new IOException("Bad save: card identity '" + identities.get(i) + "' is on " + counts[i]
+                        + " cards instead of 2");
+            }
+        }
+    }
+}
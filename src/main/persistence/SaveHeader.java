@@ -0,0 +1,47 @@
+package persistence;
+
+// Represents the header of a save in a SaveStore: what a save browser needs to show about a saved game
+// without reading the game itself; its counts are as of the last full save, not counting journalled guesses
+public class SaveHeader {
+    private final int slotId;         // number of the slot file that holds the game
+    private final String name;
+    private final int cardAmount;
+    private final int numGuesses;
+    private final int numMatches;
+    private final long timestamp;     // time the game was saved, in milliseconds since the epoch
+
+    // EFFECTS: constructs a header for the game saved in slot slotId under name, with the given board size,
+    //          number of guesses and matches, and time of saving
+    SaveHeader(int slotId, String name, int cardAmount, int numGuesses, int numMatches, long timestamp) {
+        this.slotId = slotId;
+        this.name = name;
+        this.cardAmount = cardAmount;
+        this.numGuesses = numGuesses;
+        this.numMatches = numMatches;
+        this.timestamp = timestamp;
+    }
+
+    int getSlotId() {
+        return slotId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCardAmount() {
+        return cardAmount;
+    }
+
+    public int getNumGuesses() {
+        return numGuesses;
+    }
+
+    public int getNumMatches() {
+        return numMatches;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
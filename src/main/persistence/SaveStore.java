@@ -0,0 +1,239 @@
+package persistence;
+
+import model.BoardStorage;
+import model.GameState;
+import model.MatchingGame;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// A store of many named saves in one directory. Each game is kept in its own binary slot file, and a single
+// index file holds the header of every save, so the saves can be listed by reading only the index; a game is
+// decoded only when it is loaded. Slot files and the index are written beside the old ones, forced to disk and
+// then renamed over them, so an interrupted save never leaves a half-written file in their place. Guesses made
+// since a game was saved can be appended to the slot's journal, one small record each, and are replayed when it is
+// loaded; saving the game again replaces them with a new snapshot. A store may be used from several threads.
+public class SaveStore {
+    private static final String INDEX_FILE = "index.bin";
+    private static final byte[] INDEX_MAGIC = {'M', 'G', 'I', 'X'};
+    private static final int INDEX_VERSION = 1;
+
+    private final Path directory;
+    private final BoardStorage storage;
+    private Map<String, SaveHeader> headers;   // header of every save by name, or null until the index is read
+    private int nextSlotId;                    // number of the next slot file to use
+
+    // EFFECTS: constructs a store of saves in directory, loading games stored as Card objects
+    public SaveStore(String directory) {
+        this(directory, BoardStorage.OBJECTS);
+    }
+
+    // EFFECTS: constructs a store of saves in directory, loading games kept in the given board storage
+    public SaveStore(String directory, BoardStorage storage) {
+        this.directory = Paths.get(directory);
+        this.storage = storage;
+        this.headers = null;
+        this.nextSlotId = 0;
+    }
+
+    // EFFECTS: returns the headers of all saves, most recently saved first, reading only the index;
+    //          throws IOException if the index cannot be read
+    public synchronized List<SaveHeader> list() throws IOException {
+        List<SaveHeader> list = new ArrayList<>(headers().values());
+        list.sort(Comparator.comparingLong(SaveHeader::getTimestamp).reversed());
+        return list;
+    }
+
+    // EFFECTS: returns the header of the save with the given name, or null if there is none
+    public synchronized SaveHeader find(String name) throws IOException {
+        return headers().get(name);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves game under name, replacing any save with that name, and returns its header;
+    //          throws IOException if the game or the index cannot be written
+    public synchronized SaveHeader save(String name, GameState game) throws IOException {
+        Files.createDirectories(this.directory);
+        SaveHeader old = headers().get(name);
+        int slotId = old == null ? this.nextSlotId++ : old.getSlotId();
+        writeSlot(slotId, game);
+        journal(slotId).clear();
+        SaveHeader header = new SaveHeader(slotId, name, game.getCardAmount(), game.getNumGuesses(),
+                game.getNumMatches(), System.currentTimeMillis());
+        this.headers.put(name, header);
+        writeIndex();
+        return header;
+    }
+
+    // EFFECTS: reads and returns the game saved under name, with the guesses in its journal played; throws
+    //          IOException if there is no such save or it cannot be read
+    public synchronized MatchingGame load(String name) throws IOException {
+        SaveHeader header = headers().get(name);
+        if (header == null) {
+            throw new IOException("No save named '" + name + "'");
+        }
+        MatchingGame game = new BinaryReader(slotPath(header.getSlotId()).toString(), this.storage).read();
+        journal(header.getSlotId()).replay(game);
+        return game;
+    }
+
+    // EFFECTS: appends guess number guessNumber, of the two location numbers and with the given result, to the
+    //          journal of the save with the given name, and forces it to disk; throws IOException if there is no
+    //          such save or the journal cannot be written
+    public synchronized void appendGuess(String name, int guessNumber, int locationNum1, int locationNum2,
+                                         boolean match) throws IOException {
+        SaveHeader header = headers().get(name);
+        if (header == null) {
+            throw new IOException("No save named '" + name + "'");
+        }
+        journal(header.getSlotId()).append(guessNumber, locationNum1, locationNum2, match);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the save with the given name, if there is one; throws IOException if the index
+    //          cannot be written
+    public synchronized void delete(String name) throws IOException {
+        SaveHeader header = headers().remove(name);
+        if (header != null) {
+            writeIndex();
+            Files.deleteIfExists(slotPath(header.getSlotId()));
+            journal(header.getSlotId()).clear();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the headers of all saves, reading the index the first time; a store with no index is empty.
+    //          The headers are only kept once the whole index has been read, so an index that cannot be read is
+    //          never replaced by a partial one
+    private Map<String, SaveHeader> headers() throws IOException {
+        if (this.headers == null) {
+            Map<String, SaveHeader> read = new LinkedHashMap<>();
+            Path index = this.directory.resolve(INDEX_FILE);
+            if (Files.exists(index)) {
+                readIndex(index, read);
+            }
+            for (SaveHeader header : read.values()) {
+                this.nextSlotId = Math.max(this.nextSlotId, header.getSlotId() + 1);
+            }
+            this.headers = read;
+        }
+        return this.headers;
+    }
+
+    // MODIFIES: read
+    // EFFECTS: reads every header in the index into read; throws IOException if it is not a valid index
+    private void readIndex(Path index, Map<String, SaveHeader> read) throws IOException {
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ)) {
+            BinaryInput in = new BinaryInput(channel);
+            byte[] magic = in.nextBytes(INDEX_MAGIC.length);
+            int version = in.nextByte();
+            if (!Arrays.equals(magic, INDEX_MAGIC) || version != INDEX_VERSION) {
+                throw new IOException("Bad save index: " + index);
+            }
+            for (int i = in.nextVarint(); i > 0; i--) {
+                int slotId = in.nextVarint();
+                String name = new String(in.nextBytes(in.nextVarint()), StandardCharsets.UTF_8);
+                SaveHeader header = new SaveHeader(slotId, name, in.nextVarint(), in.nextVarint(), in.nextVarint(),
+                        in.nextLong());
+                read.put(name, header);
+            }
+        }
+    }
+
+    // EFFECTS: writes game to a new file for slot slotId, then puts it in place of the old one; if it cannot be
+    //          written, the new file is closed and deleted and IOException is thrown
+    private void writeSlot(int slotId, GameState game) throws IOException {
+        Path temp = this.directory.resolve(slotFile(slotId) + ".tmp");
+        try {
+            BinaryWriter writer = new BinaryWriter(temp.toString());
+            writer.open();
+            try {
+                writer.write(game);
+            } finally {
+                writer.close();
+            }
+            replace(temp, slotPath(slotId));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    // EFFECTS: writes every header to a new index, then puts it in place of the old one; if it cannot be
+    //          written, the new index is closed and deleted and IOException is thrown
+    private void writeIndex() throws IOException {
+        Path temp = this.directory.resolve(INDEX_FILE + ".tmp");
+        try {
+            BinaryOutput out = new BinaryOutput(new FileOutputStream(temp.toFile()));
+            try {
+                writeHeaders(out);
+            } finally {
+                out.close();
+            }
+            replace(temp, this.directory.resolve(INDEX_FILE));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    // EFFECTS: writes the index format's magic number and version, followed by every header, to out
+    private void writeHeaders(BinaryOutput out) throws IOException {
+        out.writeBytes(INDEX_MAGIC);
+        out.writeByte(INDEX_VERSION);
+        out.writeVarint(this.headers.size());
+        for (SaveHeader header : this.headers.values()) {
+            byte[] name = header.getName().getBytes(StandardCharsets.UTF_8);
+            out.writeVarint(header.getSlotId());
+            out.writeVarint(name.length);
+            out.writeBytes(name);
+            out.writeVarint(header.getCardAmount());
+            out.writeVarint(header.getNumGuesses());
+            out.writeVarint(header.getNumMatches());
+            out.writeLong(header.getTimestamp());
+        }
+    }
+
+    // MODIFIES: temp, target
+    // EFFECTS: forces the contents of temp to disk, then atomically renames it to target, replacing target,
+    //          and forces the rename to disk where the platform allows it
+    private void replace(Path temp, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        try (FileChannel channel = FileChannel.open(this.directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms cannot open a directory to force it; the rename is still atomic
+        }
+    }
+
+    // EFFECTS: returns the name of the file for slot slotId
+    private static String slotFile(int slotId) {
+        return "slot-" + slotId + ".bin";
+    }
+
+    // EFFECTS: returns the path of the file for slot slotId
+    private Path slotPath(int slotId) {
+        return this.directory.resolve(slotFile(slotId));
+    }
+
+    // EFFECTS: returns the journal of guesses made since slot slotId was saved
+    private MoveJournal journal(int slotId) {
+        return new MoveJournal(this.directory.resolve("slot-" + slotId + ".journal"));
+    }
+}
@@ -0,0 +1,91 @@
+package simulation;
+
+import java.util.Arrays;
+
+// Represents how many games took each number of guesses to finish
+public class GuessDistribution {
+    private long[] counts;    // counts[g] is the number of games that took g guesses
+    private long numGames;
+    private long totalGuesses;
+
+    // EFFECTS: constructs an empty distribution
+    public GuessDistribution() {
+        this.counts = new long[16];
+        this.numGames = 0;
+        this.totalGuesses = 0;
+    }
+
+    // REQUIRES: numGuesses >= 0
+    // MODIFIES: this
+    // EFFECTS: records a game that took numGuesses guesses
+    public void add(int numGuesses) {
+        if (numGuesses >= this.counts.length) {
+            this.counts = Arrays.copyOf(this.counts, Math.max(numGuesses + 1, 2 * this.counts.length));
+        }
+        this.counts[numGuesses] = this.counts[numGuesses] + 1;
+        this.numGames = this.numGames + 1;
+        this.totalGuesses = this.totalGuesses + numGuesses;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds every game recorded in other to this
+    public void merge(GuessDistribution other) {
+        if (other.counts.length > this.counts.length) {
+            this.counts = Arrays.copyOf(this.counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            this.counts[i] = this.counts[i] + other.counts[i];
+        }
+        this.numGames = this.numGames + other.numGames;
+        this.totalGuesses = this.totalGuesses + other.totalGuesses;
+    }
+
+    // EFFECTS: returns the number of games that took numGuesses guesses
+    public long getCount(int numGuesses) {
+        return numGuesses < this.counts.length ? this.counts[numGuesses] : 0;
+    }
+
+    // EFFECTS: returns the number of games recorded
+    public long getNumGames() {
+        return this.numGames;
+    }
+
+    // REQUIRES: at least one game has been recorded
+    // EFFECTS: returns the average number of guesses per game
+    public double getMean() {
+        return (double) this.totalGuesses / this.numGames;
+    }
+
+    // REQUIRES: at least one game has been recorded
+    // EFFECTS: returns the fewest guesses any game took
+    public int getMin() {
+        int i = 0;
+        while (this.counts[i] == 0) {
+            i++;
+        }
+        return i;
+    }
+
+    // REQUIRES: at least one game has been recorded
+    // EFFECTS: returns the most guesses any game took
+    public int getMax() {
+        int i = this.counts.length - 1;
+        while (this.counts[i] == 0) {
+            i--;
+        }
+        return i;
+    }
+
+    // REQUIRES: at least one game has been recorded and 0 < fraction <= 1
+    // EFFECTS: returns the smallest number of guesses that at least the given fraction of games finished within
+    public int getPercentile(double fraction) {
+        long needed = (long) Math.ceil(fraction * this.numGames);
+        long seen = 0;
+        int i = 0;
+        while (seen + this.counts[i] < needed) {
+            seen = seen + this.counts[i];
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,66 @@
+package simulation;
+
+import java.util.SplittableRandom;
+
+// Represents a set of location numbers in [1, cardAmount] that supports adding, removing and picking
+// a random member in O(1)
+class LocationPool {
+    private final int[] members;     // the location numbers in the pool, in no order, at [0, size)
+    private final int[] positions;   // index of each location number in members, or -1 if it is not in the pool
+    private int size;
+
+    // EFFECTS: constructs a pool holding every location number in [1, cardAmount]
+    LocationPool(int cardAmount) {
+        this.members = new int[cardAmount];
+        this.positions = new int[cardAmount + 1];
+        this.positions[0] = -1;
+        for (int i = 1; i <= cardAmount; i++) {
+            this.members[i - 1] = i;
+            this.positions[i] = i - 1;
+        }
+        this.size = cardAmount;
+    }
+
+    // EFFECTS: returns true if locationNum is in the pool
+    boolean contains(int locationNum) {
+        return this.positions[locationNum] >= 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds locationNum to the pool if it is not already there
+    void add(int locationNum) {
+        if (!contains(locationNum)) {
+            this.members[this.size] = locationNum;
+            this.positions[locationNum] = this.size;
+            this.size = this.size + 1;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes locationNum from the pool if it is there, by moving the last member into its place
+    void remove(int locationNum) {
+        int position = this.positions[locationNum];
+        if (position >= 0) {
+            this.size = this.size - 1;
+            int last = this.members[this.size];
+            this.members[position] = last;
+            this.positions[last] = position;
+            this.positions[locationNum] = -1;
+        }
+    }
+
+    // REQUIRES: the pool has at least one member other than excluded
+    // EFFECTS: returns a uniformly random member of the pool other than excluded
+    int pickRandom(SplittableRandom random, int excluded) {
+        int locationNum;
+        do {
+            locationNum = this.members[random.nextInt(this.size)];
+        } while (locationNum == excluded);
+        return locationNum;
+    }
+
+    // EFFECTS: returns the number of location numbers in the pool
+    int size() {
+        return this.size;
+    }
+}
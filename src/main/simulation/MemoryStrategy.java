@@ -0,0 +1,87 @@
+package simulation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// A player who remembers where they have seen up to capacity unmatched cards, forgetting the least recently
+// used one first; they match any pair they know of, and otherwise turn over cards they do not remember
+public class MemoryStrategy implements PlayerStrategy {
+    private final int capacity;                        // the most unmatched cards remembered at once
+    private LocationPool unknown;                      // location numbers of unmatched cards not remembered
+    private LinkedHashMap<String, Integer> memory;     // remembered location of each identity, least recent first
+    private Deque<int[]> knownPairs;                   // pairs of locations known to hold matching cards
+
+    // REQUIRES: capacity >= 1
+    // EFFECTS: constructs a player who remembers up to capacity unmatched cards
+    public MemoryStrategy(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void startGame(int cardAmount) {
+        this.unknown = new LocationPool(cardAmount);
+        this.memory = new LinkedHashMap<>(16, 0.75f, true);
+        this.knownPairs = new ArrayDeque<>();
+    }
+
+    @Override
+    public int chooseFirst(SplittableRandom random) {
+        if (!this.knownPairs.isEmpty()) {
+            return this.knownPairs.peekFirst()[0];
+        }
+        return this.unknown.pickRandom(random, 0);
+    }
+
+    @Override
+    public int chooseSecond(int firstLocationNum, String firstIdentity, SplittableRandom random) {
+        for (int[] pair : this.knownPairs) {
+            if (pair[0] == firstLocationNum) {
+                return pair[1];
+            }
+            if (pair[1] == firstLocationNum) {
+                return pair[0];
+            }
+        }
+        return this.unknown.pickRandom(random, firstLocationNum);
+    }
+
+    @Override
+    public void seeCard(int locationNum, String identity) {
+        if (!this.unknown.contains(locationNum)) {
+            return;
+        }
+        this.unknown.remove(locationNum);
+        Integer partner = this.memory.remove(identity);
+        if (partner != null) {
+            this.knownPairs.addLast(new int[] {partner, locationNum});
+        } else {
+            this.memory.put(identity, locationNum);
+            forgetIfFull();
+        }
+    }
+
+    @Override
+    public void cardsMatched(int locationNum1, int locationNum2) {
+        Iterator<int[]> pairs = this.knownPairs.iterator();
+        while (pairs.hasNext()) {
+            int[] pair = pairs.next();
+            if (pair[0] == locationNum1 || pair[0] == locationNum2) {
+                pairs.remove();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if more than capacity cards are remembered, forgets the least recently used one
+    private void forgetIfFull() {
+        if (this.memory.size() > this.capacity) {
+            Iterator<Map.Entry<String, Integer>> eldest = this.memory.entrySet().iterator();
+            this.unknown.add(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+}
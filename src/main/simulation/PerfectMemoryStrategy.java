@@ -0,0 +1,10 @@
+package simulation;
+
+// A player who never forgets where they have seen a card
+public class PerfectMemoryStrategy extends MemoryStrategy {
+
+    // EFFECTS: constructs a player with unlimited memory
+    public PerfectMemoryStrategy() {
+        super(Integer.MAX_VALUE);
+    }
+}
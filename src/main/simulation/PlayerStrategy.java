@@ -0,0 +1,28 @@
+package simulation;
+
+import java.util.SplittableRandom;
+
+// A headless player that chooses which cards to guess in a matching game; a strategy only learns a card's
+// identity when that card is revealed to it, the same way a person playing the game would
+public interface PlayerStrategy {
+
+    // MODIFIES: this
+    // EFFECTS: forgets any previous game and prepares to play a game with cardAmount unmatched cards
+    //          at locations [1, cardAmount]
+    void startGame(int cardAmount);
+
+    // EFFECTS: returns the location number of an unmatched card to turn over first
+    int chooseFirst(SplittableRandom random);
+
+    // REQUIRES: the card at firstLocationNum has already been shown to this through seeCard
+    // EFFECTS: returns the location number of an unmatched card other than firstLocationNum to turn over second
+    int chooseSecond(int firstLocationNum, String firstIdentity, SplittableRandom random);
+
+    // MODIFIES: this
+    // EFFECTS: shows this the identity of the (unmatched) card at locationNum
+    void seeCard(int locationNum, String identity);
+
+    // MODIFIES: this
+    // EFFECTS: tells this that the cards at the two locations were matched and removed from the board
+    void cardsMatched(int locationNum1, int locationNum2);
+}
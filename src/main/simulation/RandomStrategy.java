@@ -0,0 +1,34 @@
+package simulation;
+
+import java.util.SplittableRandom;
+
+// A player with no memory, who turns over two random unmatched cards every turn
+public class RandomStrategy implements PlayerStrategy {
+    private LocationPool unmatched;   // location numbers of all unmatched cards
+
+    @Override
+    public void startGame(int cardAmount) {
+        this.unmatched = new LocationPool(cardAmount);
+    }
+
+    @Override
+    public int chooseFirst(SplittableRandom random) {
+        return this.unmatched.pickRandom(random, 0);
+    }
+
+    @Override
+    public int chooseSecond(int firstLocationNum, String firstIdentity, SplittableRandom random) {
+        return this.unmatched.pickRandom(random, firstLocationNum);
+    }
+
+    @Override
+    public void seeCard(int locationNum, String identity) {
+        // forgets the card straight away
+    }
+
+    @Override
+    public void cardsMatched(int locationNum1, int locationNum2) {
+        this.unmatched.remove(locationNum1);
+        this.unmatched.remove(locationNum2);
+    }
+}
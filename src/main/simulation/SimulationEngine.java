@@ -0,0 +1,85 @@
+package simulation;
+
+import model.BoardStorage;
+import model.MatchingGame;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+// Plays matching games with no user interface, in parallel on all cores, and reports how many guesses
+// a player strategy needs to finish boards of a given size
+public class SimulationEngine {
+    private static final int[] DEFAULT_NUM_PAIRS = {2, 4, 8, 16, 32, 64};
+    private static final long DEFAULT_NUM_GAMES = 1000000;
+
+    private final Supplier<PlayerStrategy> strategies;   // makes a new player for each game
+    private final long seed;                             // seed that every game and player is derived from
+
+    // EFFECTS: constructs an engine whose games are played by players from strategies; the same seed always
+    //          plays the same games
+    public SimulationEngine(Supplier<PlayerStrategy> strategies, long seed) {
+        this.strategies = strategies;
+        this.seed = seed;
+    }
+
+    // REQUIRES: numPairs >= 1 and numGames >= 1
+    // EFFECTS: plays numGames games of numPairs pairs each, spread over all cores, and returns how many
+    //          guesses the games took
+    public GuessDistribution run(int numPairs, long numGames) {
+        return LongStream.range(0, numGames).parallel().collect(GuessDistribution::new,
+                (distribution, gameNum) -> distribution.add(playGame(numPairs, gameNum)),
+                GuessDistribution::merge);
+    }
+
+    // EFFECTS: plays game number gameNum of numPairs pairs to the end and returns the number of guesses it took;
+    //          the board is kept compact and nothing is logged
+    int playGame(int numPairs, long gameNum) {
+        long gameSeed = new SplittableRandom(this.seed + gameNum).nextLong();
+        MatchingGame game = new MatchingGame(numPairs, BoardStorage.COMPACT, MatchingGame.DEFAULT_IDENTITIES,
+                gameSeed);
+        game.setLoggingEnabled(false);
+        SplittableRandom random = new SplittableRandom(~gameSeed);
+        PlayerStrategy player = this.strategies.get();
+        player.startGame(game.getCardAmount());
+        while (!game.checkGameOver()) {
+            playTurn(game, player, random);
+        }
+        return game.getNumGuesses();
+    }
+
+    // MODIFIES: game, player
+    // EFFECTS: lets player turn over two cards and makes that guess
+    private static void playTurn(MatchingGame game, PlayerStrategy player, SplittableRandom random) {
+        int first = player.chooseFirst(random);
+        String firstIdentity = game.getIdentityAt(first);
+        player.seeCard(first, firstIdentity);
+        int second = player.chooseSecond(first, firstIdentity, random);
+        player.seeCard(second, game.getIdentityAt(second));
+        if (game.makeGuess(first, second)) {
+            player.cardsMatched(first, second);
+        }
+    }
+
+    // EFFECTS: plays DEFAULT_NUM_GAMES games of each size in DEFAULT_NUM_PAIRS with each strategy, and prints
+    //          the guess-count distribution and throughput for each
+    public static void main(String[] args) {
+        report("random", RandomStrategy::new);
+        report("perfect memory", PerfectMemoryStrategy::new);
+        report("memory of 8 cards", () -> new MemoryStrategy(8));
+    }
+
+    // EFFECTS: prints the guess-count distributions of the given strategy for every size in DEFAULT_NUM_PAIRS
+    private static void report(String name, Supplier<PlayerStrategy> strategies) {
+        SimulationEngine engine = new SimulationEngine(strategies, 0);
+        System.out.println(name);
+        System.out.println("pairs\tmin\tmedian\tmean\tp99\tmax\tgames/s");
+        for (int numPairs : DEFAULT_NUM_PAIRS) {
+            long start = System.nanoTime();
+            GuessDistribution d = engine.run(numPairs, DEFAULT_NUM_GAMES);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d\t%d\t%d\t%.2f\t%d\t%d\t%.0f%n", numPairs, d.getMin(), d.getPercentile(0.5),
+                    d.getMean(), d.getPercentile(0.99), d.getMax(), d.getNumGames() / seconds);
+        }
+    }
+}
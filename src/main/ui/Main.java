@@ -1,19 +1,29 @@
 package ui;
 
-import model.Event;
+import metrics.MetricsRegistry;
 import model.EventLog;
+import persistence.EventLogSink;
 import ui.gui.MatchingGameApp;
 
+import javax.swing.*;
+import java.io.IOException;
+
 // Starts a new instance of a Matching Game.
 public class Main {
+    private static final String LOG_DIRECTORY = "./data/logs";
+
     public static void main(String[] args) {
-        new MatchingGameApp();
-        EventLog el = EventLog.getInstance();
-        Thread printingHook = new Thread(() -> {
-            for (Event next : el) {
-                System.out.println(next.toString());
+        MetricsRegistry.getInstance().publish();
+        EventLogSink sink = new EventLogSink(EventLog.getInstance(), LOG_DIRECTORY);
+        sink.start();
+        Thread flushingHook = new Thread(() -> {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                System.err.println("Couldn't write the event log: " + e.getMessage());
             }
         });
-        Runtime.getRuntime().addShutdownHook(printingHook);
+        Runtime.getRuntime().addShutdownHook(flushingHook);
+        SwingUtilities.invokeLater(MatchingGameApp::new);
     }
 }
@@ -0,0 +1,183 @@
+package ui.gui;
+
+import model.GameState;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.BitSet;
+
+// Represents a single component that paints every card of a game as a cell in a grid; clicks are hit-tested
+// against the grid rather than given to a component per card, and only cells in the clip are painted, so boards
+// of any size cost the same to lay out and about the same to paint
+public class CardGrid extends JComponent implements Scrollable {
+
+    private static final int CELL = 60;
+    private static final int GAP = 10;
+    private static final int PITCH = CELL + GAP;
+    private static final Font FONT = new Font("Arial", Font.PLAIN, 30);
+
+    private final GameState game;
+    private final ActionListener listener;
+    private final int cardAmount;
+    private final int columns;
+    private final BitSet shown;
+    private final BitSet removed;
+
+    // EFFECTS: constructs a view of the cards of game, as they are at the start of play, laid out in as many columns
+    //          as fit in width; clicks on cards still in play are sent to listener as ActionEvents whose command is
+    //          the card's location number
+    public CardGrid(int width, GameState game, ActionListener listener) {
+        this.game = game;
+        this.listener = listener;
+        this.cardAmount = game.getCardAmount();
+        this.columns = Math.max(1, (width - GAP) / PITCH);
+        this.shown = new BitSet(cardAmount + 1);
+        this.removed = new BitSet(cardAmount + 1);
+        for (int loc = 1; loc <= cardAmount; loc++) {
+            if (game.isCardMatched(loc)) {
+                removed.set(loc);
+            }
+        }
+        setOpaque(true);
+        setBackground(Color.BLACK);
+        setFont(FONT);
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                cardClicked(locationAt(e.getX(), e.getY()));
+            }
+        });
+    }
+
+    // EFFECTS: returns the location number of the card whose cell contains (x, y), or 0 if there is none
+    public int locationAt(int x, int y) {
+        int column = (x - GAP) / PITCH;
+        int row = (y - GAP) / PITCH;
+        if (x < GAP || y < GAP || column >= columns || (x - GAP) % PITCH >= CELL || (y - GAP) % PITCH >= CELL) {
+            return 0;
+        }
+        int loc = row * columns + column + 1;
+        return loc <= cardAmount ? loc : 0;
+    }
+
+    // REQUIRES: locationNum is within [1, cardAmount]
+    // EFFECTS: returns the bounds of the cell of the card at locationNum
+    public Rectangle cellBounds(int locationNum) {
+        int index = locationNum - 1;
+        return new Rectangle(GAP + (index % columns) * PITCH, GAP + (index / columns) * PITCH, CELL, CELL);
+    }
+
+    // EFFECTS: tells the listener that the card at locationNum was clicked, if it is still in play
+    private void cardClicked(int locationNum) {
+        if (locationNum != 0 && !removed.get(locationNum)) {
+            listener.actionPerformed(new ActionEvent(this, ActionEvent.ACTION_PERFORMED,
+                    String.valueOf(locationNum)));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows the identity of the card at locationNum and repaints its cell
+    public void showCardIdentity(int locationNum) {
+        shown.set(locationNum);
+        repaint(cellBounds(locationNum));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: hides the identity of the card at locationNum and repaints its cell
+    public void hideCardIdentity(int locationNum) {
+        shown.clear(locationNum);
+        repaint(cellBounds(locationNum));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes the card at locationNum out of play, leaving its identity showing, and repaints its cell
+    public void removeCardFromPlay(int locationNum) {
+        shown.clear(locationNum);
+        removed.set(locationNum);
+        repaint(cellBounds(locationNum));
+    }
+
+    // EFFECTS: paints the background and every cell that intersects the clip
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        int firstRow = Math.max(0, (clip.y - GAP) / PITCH);
+        int lastRow = (clip.y + clip.height - GAP) / PITCH;
+        int firstColumn = Math.max(0, (clip.x - GAP) / PITCH);
+        int lastColumn = Math.min(columns - 1, (clip.x + clip.width - GAP) / PITCH);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int loc = row * columns + column + 1;
+                if (loc > cardAmount) {
+                    return;
+                }
+                paintCell(g, loc);
+            }
+        }
+    }
+
+    // EFFECTS: paints the cell of the card at locationNum: white when face down, green when shown, and grey with
+    //          its identity once it is out of play
+    private void paintCell(Graphics g, int locationNum) {
+        Rectangle cell = cellBounds(locationNum);
+        if (removed.get(locationNum)) {
+            g.setColor(Color.GRAY);
+        } else if (shown.get(locationNum)) {
+            g.setColor(Color.GREEN);
+        } else {
+            g.setColor(Color.WHITE);
+        }
+        g.fillRect(cell.x, cell.y, cell.width, cell.height);
+        if (removed.get(locationNum) || shown.get(locationNum)) {
+            String identity = game.getIdentityAt(locationNum);
+            FontMetrics metrics = g.getFontMetrics();
+            g.setColor(Color.BLACK);
+            g.drawString(identity, cell.x + (cell.width - metrics.stringWidth(identity)) / 2,
+                    cell.y + (cell.height - metrics.getHeight()) / 2 + metrics.getAscent());
+        }
+    }
+
+    // EFFECTS: returns the size needed to show every row of cards
+    @Override
+    public Dimension getPreferredSize() {
+        int rows = (cardAmount + columns - 1) / columns;
+        return new Dimension(GAP + columns * PITCH, GAP + rows * PITCH);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    // EFFECTS: scrolls by one row of cards
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return PITCH;
+    }
+
+    // EFFECTS: scrolls by as many whole rows as are visible
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        return Math.max(PITCH, extent / PITCH * PITCH);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package ui.gui;
 
+import model.GameSnapshot;
 import model.MatchingGame;
 
 import javax.swing.*;
@@ -39,8 +40,9 @@ public class GameOverPanel extends JPanel {
     // MODIFIES: this
     // EFFECTS: initializes the text that shows game stats and adds it to the panel
     private void initializeStatsText() {
-        statsText = new JLabel("You took " + game.getNumGuesses() + " guesses to get " + game.getNumMatches() + "/"
-                + game.getNumMatches() + " matches.");
+        GameSnapshot latest = game.snapshot();
+        statsText = new JLabel("You took " + latest.getNumGuesses() + " guesses to get " + latest.getNumMatches()
+                + "/" + latest.getNumMatches() + " matches.");
         statsText.setFont(new Font("Arial", Font.PLAIN, 20));
         statsText.setForeground(Color.WHITE);
         statsText.setBackground(Color.BLACK);
@@ -1,18 +1,16 @@
 package ui.gui;
 
-import model.Card;
+import model.GameSnapshot;
 import model.MatchingGame;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
 
 // Represents the panel that displays the starting, menu, game, and game over screens
 public class GamePanel extends JPanel {
 
     private static final int MARGIN = 30;
+    private static final int CARD_GRID_THRESHOLD = 100;
     private MatchingGame game;
     private MatchingGameApp gameApp;
     private int width;
@@ -20,7 +18,8 @@ public class GamePanel extends JPanel {
     private JLabel guessText;
     private JButton quitButton;
     private JPanel cardPanel;
-    private ArrayList<JButton> buttons;
+    private JButton[] buttons;
+    private CardGrid cardGrid;
 
     // EFFECTS: constructs a game panel with a size and background colour of panel,
     //          updates this with the game to be displayed and initializes all components
@@ -29,14 +28,17 @@ public class GamePanel extends JPanel {
         this.width = width;
         this.height = height;
         this.gameApp = m;
-        this.buttons = new ArrayList<>();
         setPreferredSize(new Dimension(width, height));
         setBackground(Color.BLACK);
         setLayout(new FlowLayout(FlowLayout.CENTER, width, MARGIN));
         initializeText();
         initializeQuitButton();
-        initializeCardPanel();
-        initializeCards();
+        if (game.snapshot().getCardAmount() > CARD_GRID_THRESHOLD) {
+            initializeCardGrid();
+        } else {
+            initializeCardPanel();
+            initializeCards();
+        }
     }
 
     // MODIFIES: this
@@ -78,94 +80,83 @@ public class GamePanel extends JPanel {
     }
 
     // MODIFIES: this
-    // EFFECTS: makes a button for each card, customizes it, and places it in its respective location on a panel
-    //          holding cards
+    // EFFECTS: initializes a single scrollable view that paints every card; used instead of a button per card once
+    //          boards are large enough that laying out and painting the buttons would be slow
+    private void initializeCardGrid() {
+        cardGrid = new CardGrid(width, game.snapshot(), gameApp);
+        JScrollPane scrollPane = new JScrollPane(cardGrid, ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS,
+                ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.setPreferredSize(new Dimension(width, height - 200));
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        scrollPane.getViewport().setBackground(Color.BLACK);
+        add(scrollPane);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes a button for each card in order of increasing location number, customizes it, and places it
+    //          in its location on a panel holding cards
     public void initializeCards() {
-        List<Card> cards = getAllCards();
-        for (Card c : reorder(cards)) {
-            String n = String.valueOf(c.getLocationNum());
+        GameSnapshot latest = game.snapshot();
+        buttons = new JButton[latest.getCardAmount() + 1];
+        for (int loc = 1; loc <= latest.getCardAmount(); loc++) {
             JButton card;
-            if (c.getStatus()) {
-                card = new JButton(c.getIdentity());
-                card.setActionCommand(n);
+            if (latest.isCardMatched(loc)) {
+                card = new JButton(latest.getIdentityAt(loc));
                 card.setBackground(Color.GRAY);
             } else {
                 card = new JButton("  ");
-                card.setActionCommand(n);
                 card.setBackground(Color.WHITE);
                 card.setForeground(Color.BLACK);
                 card.addActionListener(gameApp);
             }
-            customizeCard(card);
+            card.setActionCommand(String.valueOf(loc));
+            customizeCard(card, loc);
         }
     }
 
-    // EFFECTS: returns a complete list of all the cards in the game
-    public List<Card> getAllCards() {
-        List<Card> cards = new LinkedList<>();
-        cards.addAll(game.getUnmatchedCards());
-        cards.addAll(game.getMatchedCards());
-        return cards;
-    }
-
-    // EFFECTS: returns a list of the same cards but in order of increasing location number
-    private List<Card> reorder(List<Card> cards) {
-        List<Card> reorderedCards = new LinkedList<>();
-        for (int i = 1; i <= game.getCardAmount(); i++) {
-            for (Card c : cards) {
-                if (c.getLocationNum() == i) {
-                    reorderedCards.add(c);
-                }
-            }
-        }
-        return reorderedCards;
-    }
-
     // MODIFIES: this
-    // EFFECTS: customizes a card and adds it to cardPanel
-    private void customizeCard(JButton c) {
+    // EFFECTS: customizes the card at locationNum and adds it to cardPanel
+    private void customizeCard(JButton c, int locationNum) {
         c.setFont(new Font("Arial", Font.PLAIN, 50));
         c.setFocusable(false);
         cardPanel.add(c);
-        buttons.add(c);
+        buttons[locationNum] = c;
     }
 
     // MODIFIES: this
     // EFFECTS: changes the button for the given card to show its identity
     public void showCardIdentity(int locationNum) {
-        Card c = game.findCard(locationNum);
-        String n = String.valueOf(locationNum);
-        for (JButton b : buttons) {
-            if (n.equals(b.getActionCommand())) {
-                b.setBackground(Color.GREEN);
-                b.setText(c.getIdentity());
-            }
+        if (cardGrid != null) {
+            cardGrid.showCardIdentity(locationNum);
+            return;
         }
+        JButton b = buttons[locationNum];
+        b.setBackground(Color.GREEN);
+        b.setText(game.snapshot().getIdentityAt(locationNum));
     }
 
     // MODIFIES: this
     // EFFECTS: changes the button for the given card to hide its identity
     public void hideCardIdentity(int locationNum) {
-        String n = String.valueOf(locationNum);
-        for (JButton b : buttons) {
-            if (n.equals(b.getActionCommand())) {
-                b.setBackground(Color.WHITE);
-                b.setText("  ");
-            }
+        if (cardGrid != null) {
+            cardGrid.hideCardIdentity(locationNum);
+            return;
         }
+        JButton b = buttons[locationNum];
+        b.setBackground(Color.WHITE);
+        b.setText("  ");
     }
 
     // MODIFIES: this
     // EFFECTS: alters the button for the given card by changing its style and removing its action listener
     public void removeCardFromPlay(int locationNum) {
-        Card c = game.findCard(locationNum);
-        String n = String.valueOf(locationNum);
-        for (JButton b : buttons) {
-            if (n.equals(b.getActionCommand())) {
-                b.setBackground(Color.GRAY);
-                b.setText(c.getIdentity());
-                b.removeActionListener(gameApp);
-            }
+        if (cardGrid != null) {
+            cardGrid.removeCardFromPlay(locationNum);
+            return;
         }
+        JButton b = buttons[locationNum];
+        b.setBackground(Color.GRAY);
+        b.setText(game.snapshot().getIdentityAt(locationNum));
+        b.removeActionListener(gameApp);
     }
 }
@@ -0,0 +1,107 @@
+package ui.gui;
+
+import persistence.SaveHeader;
+
+import javax.swing.*;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+// Represents a panel that lists saved games by their headers and lets the player pick one to load
+public class LoadPanel extends JPanel {
+
+    private static final int MARGIN = 40;
+    private static final int ROW_HEIGHT = 32;
+    private MatchingGameApp gameApp;
+    private JLabel text;
+    private JList<SaveHeader> saveList;
+    private JButton loadButton;
+    private JButton backButton;
+
+    // EFFECTS: constructs a panel with a size and background colour of panel, a list of the given save headers
+    //          (most recent first), and buttons to load the selected save or go back
+    public LoadPanel(int width, int height, List<SaveHeader> saves, MatchingGameApp m) {
+        this.gameApp = m;
+        setPreferredSize(new Dimension(width, height));
+        setBackground(Color.BLACK);
+        setLayout(new FlowLayout(FlowLayout.CENTER, 1000, MARGIN));
+        initializeText(saves.size());
+        initializeList(width, height, saves);
+        initializeButtons();
+    }
+
+    // EFFECTS: returns the header of the selected save, or null if none is selected
+    public SaveHeader getSelectedSave() {
+        return saveList.getSelectedValue();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: initializes the text and adds it to the panel
+    private void initializeText(int numSaves) {
+        text = new JLabel(numSaves == 0 ? "There are no saved games." : "Pick a saved game to load.");
+        text.setFont(new Font("Arial", Font.PLAIN, 20));
+        text.setForeground(Color.WHITE);
+        text.setBackground(Color.BLACK);
+        add(text);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: initializes a scrolling list of saves; rows have a fixed height so that only visible rows are
+    //          ever laid out, however many saves there are
+    private void initializeList(int width, int height, List<SaveHeader> saves) {
+        saveList = new JList<>(saves.toArray(new SaveHeader[0]));
+        saveList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        saveList.setFixedCellHeight(ROW_HEIGHT);
+        saveList.setFont(new Font("Arial", Font.PLAIN, 18));
+        saveList.setCellRenderer(new SaveRenderer());
+        if (!saves.isEmpty()) {
+            saveList.setSelectedIndex(0);
+        }
+        JScrollPane scrollPane = new JScrollPane(saveList);
+        scrollPane.setPreferredSize(new Dimension(width * 3 / 4, height / 2));
+        add(scrollPane);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: initializes the menu buttons for the panel
+    private void initializeButtons() {
+        this.loadButton = new JButton("LOAD THIS GAME");
+        loadButton.setActionCommand("load slot");
+        this.backButton = new JButton("BACK");
+        backButton.setActionCommand("back");
+
+        JPanel menuArea = new JPanel();
+        menuArea.setLayout(new GridLayout(1,0));
+        add(menuArea);
+
+        customizeButton(loadButton, menuArea);
+        customizeButton(backButton, menuArea);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: customizes a button and adds it to p
+    private void customizeButton(JButton b, JPanel p) {
+        b.addActionListener(gameApp);
+        b.setForeground(Color.BLACK);
+        b.setBackground(Color.WHITE);
+        b.setFont(new Font("Arial", Font.BOLD, 18));
+        b.setFocusable(false);
+        p.add(b);
+    }
+
+    // Shows a save header as one line of text: its name, board size, score and time of saving
+    private static class SaveRenderer extends DefaultListCellRenderer {
+        private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected,
+                                                      boolean cellHasFocus) {
+            SaveHeader save = (SaveHeader) value;
+            String line = save.getName() + "  \u2014  " + save.getCardAmount() + " cards, " + save.getNumMatches()
+                    + " matches in " + save.getNumGuesses() + " guesses, saved "
+                    + dateFormat.format(new Date(save.getTimestamp()));
+            return super.getListCellRendererComponent(list, line, index, isSelected, cellHasFocus);
+        }
+    }
+}
@@ -1,25 +1,42 @@
 package ui.gui;
 
+import metrics.Counter;
+import metrics.GuiRebuildEvent;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.TurnEvent;
 import model.Event;
 import model.EventLog;
+import model.GameLoop;
+import model.GameSnapshot;
 import model.MatchingGame;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.AutosaveService;
+import persistence.GameReader;
+import persistence.SaveHeader;
+import persistence.SaveStore;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.FileNotFoundException;
+import java.io.File;
 import java.io.IOException;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
-import java.util.concurrent.*;
 
 // Represents a matching game application with a graphical user interface
 public class MatchingGameApp extends JFrame implements ActionListener {
 
     private static final int WIDTH = 1000;
     private static final int HEIGHT = 800;
+    // how long a guessed pair stays revealed, in milliseconds; set with -Dmatchinggame.revealMillis=<millis>
+    private static final int REVEAL_MILLIS = Integer.getInteger("matchinggame.revealMillis", 1000);
+    private static final LatencyHistogram TURN_LATENCY = MetricsRegistry.getInstance().histogram("guessAPair");
+    private static final LatencyHistogram PANEL_LATENCY =
+            MetricsRegistry.getInstance().histogram("panelConstruction");
+    private static final Counter GUESSES = MetricsRegistry.getInstance().counter("guesses");
+    private static final Counter MATCHES = MetricsRegistry.getInstance().counter("matches");
     private MatchingGame game;
     private StartPanel stp;
     private MenuPanel mp;
@@ -27,13 +44,19 @@ public class MatchingGameApp extends JFrame implements ActionListener {
     private ScorePanel scp;
     private GameOverPanel gop;
     private QuittingPopUp qp;
+    private LoadPanel lp;
     private Popup popup;
 
-    private static final String JSON_STORE = "./data/MatchingGame.json";
-    private JsonWriter jsonWriter;
-    private JsonReader jsonReader;
+    private static final String SAVE_DIRECTORY = "./data/saves";
+    private static final String LEGACY_STORE = "./data/MatchingGame.json";
+    private static final String LEGACY_SLOT = "MatchingGame";
+    private SaveStore saveStore;
+    private AutosaveService autosave;
+    private String slotName;
     private List<Integer> guesses;
-    private ScheduledExecutorService schedule;
+    private TurnScheduler scheduler;
+    private GameLoop loop;
+    private int queuedGuess;
 
     // EFFECTS: constructs a matching game app with a starting window
     public MatchingGameApp() {
@@ -54,9 +77,22 @@ public class MatchingGameApp extends JFrame implements ActionListener {
         pack();
         centreOnScreen();
         setVisible(true);
-        jsonWriter = new JsonWriter(JSON_STORE);
-        jsonReader = new JsonReader(JSON_STORE);
         guesses = new ArrayList<>();
+        startServices();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens the save store and starts autosaving to it, starts the turn scheduler and the game loop,
+    //          and registers the app's gauges
+    private void startServices() {
+        saveStore = new SaveStore(SAVE_DIRECTORY);
+        autosave = new AutosaveService(saveStore);
+        importLegacySave();
+        scheduler = new TurnScheduler();
+        loop = new GameLoop(game, SwingUtilities::invokeLater);
+        loop.start();
+        MetricsRegistry.getInstance().gauge("boardSize", () -> game.snapshot().getCardAmount());
+        MetricsRegistry.getInstance().gauge("eventLogDepth", () -> EventLog.getInstance().size());
     }
 
     // MODIFIES: this
@@ -70,13 +106,13 @@ public class MatchingGameApp extends JFrame implements ActionListener {
     // EFFECTS: responds to each specific ActionEvent
     @Override
     public void actionPerformed(ActionEvent e) {
+        if (handleSlotMenuAction(e.getActionCommand())) {
+            return;
+        }
         if (e.getActionCommand().equals("new game")) {
             newGame();
-        } else if (e.getActionCommand().equals("load game")) {
-            loadGameFromSave();
         } else if (e.getActionCommand().equals("add cards")) {
-            game.addCardPair();
-            mp.updateText();
+            loop.run(MatchingGame::addCardPair, mp::updateText);
         } else if (e.getActionCommand().equals("play game")) {
             playGame();
         } else if (e.getActionCommand().equals("leave game")) {
@@ -94,15 +130,52 @@ public class MatchingGameApp extends JFrame implements ActionListener {
     }
 
     // MODIFIES: this
-    // EFFECTS: saves the current state of the game to JSON_STORE
-    private void saveAndQuit() {
+    // EFFECTS: responds to a command from the list of saved games and returns true, or returns false if command
+    //          does not come from that list
+    private boolean handleSlotMenuAction(String command) {
+        if (command.equals("load game")) {
+            showSaves();
+        } else if (command.equals("load slot")) {
+            loadGameFromSave();
+        } else if (command.equals("back")) {
+            returnToStart();
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies the game saved by earlier versions of the app at LEGACY_STORE into the save store,
+    //          unless it has been copied already
+    private void importLegacySave() {
         try {
-            this.jsonWriter.open();
-            this.jsonWriter.write(this.game);
-            this.jsonWriter.close();
+            if (new File(LEGACY_STORE).exists() && saveStore.find(LEGACY_SLOT) == null) {
+                saveStore.save(LEGACY_SLOT, new GameReader(LEGACY_STORE).read());
+            }
+        } catch (IOException io) {
+            // does nothing (no save to copy, or nowhere to copy it)
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: finishes any turn whose pair is still revealed and saves the current state of the game to its slot
+    //          on the game loop, then quits once every save has reached the disk, without blocking the GUI meanwhile
+    private void saveAndQuit() {
+        scheduler.runNow();
+        String name = slotName;
+        loop.run(g -> autosave.request(name, g.snapshot()),
+                () -> autosave.flushThen(SwingUtilities::invokeLater, this::quitIfSaved));
+    }
+
+    // EFFECTS: quits if failed is null; otherwise tells the player why the game couldn't be saved and stays open
+    private void quitIfSaved(IOException failed) {
+        if (failed == null) {
+            dispose();
             System.exit(0);
-        } catch (FileNotFoundException f) {
-            // does nothing (no file to save to)
+        } else {
+            JOptionPane.showMessageDialog(this, "The game couldn't be saved: " + failed.getMessage(),
+                    "Save failed", JOptionPane.ERROR_MESSAGE);
         }
     }
 
@@ -115,62 +188,150 @@ public class MatchingGameApp extends JFrame implements ActionListener {
     }
 
     // MODIFIES: this
-    // EFFECTS: loads the game from the save file and plays it
-    private void loadGameFromSave() {
+    // EFFECTS: replaces the starting screen with a list of the saved games, read from their headers only
+    private void showSaves() {
         try {
-            this.game = jsonReader.read();
+            List<SaveHeader> saves = saveStore.list();
+            long start = System.nanoTime();
+            lp = new LoadPanel(WIDTH, HEIGHT, saves, this);
+            PANEL_LATENCY.recordSince(start);
             remove(stp);
+            add(lp);
+            pack();
+        } catch (IOException io) {
+            // does nothing (saves can't be read)
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: goes back from the list of saved games to the starting screen
+    private void returnToStart() {
+        remove(lp);
+        add(stp);
+        pack();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the game saved in the selected slot and plays it
+    private void loadGameFromSave() {
+        SaveHeader save = lp.getSelectedSave();
+        if (save == null) {
+            return;
+        }
+        try {
+            this.game = saveStore.load(save.getName());
+            this.slotName = save.getName();
+            loop.replaceGame(game);
+            remove(lp);
             playGame();
         } catch (IOException io) {
-            // does nothing (no file saved)
+            // does nothing (save can't be read)
         }
     }
 
     // MODIFIES: this
-    // EFFECTS: plays the matching game by adding the game and score panels
+    // EFFECTS: plays the matching game by adding the game and score panels once every change queued on the game loop
+    //          has been applied; a new game is given a slot named after the current time, and the game is saved
+    //          there now and autosaved after every guess
     private void playGame() {
+        if (slotName == null) {
+            slotName = "Game of " + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date());
+        }
+        String name = slotName;
         remove(mp);
+        loop.run(g -> autosave.request(name, g.snapshot()), this::showGame);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: builds and shows the game and score panels; runs as a result of the game loop, so the game is not
+    //          being changed while they read it
+    private void showGame() {
+        GuiRebuildEvent event = new GuiRebuildEvent();
+        event.begin();
+        long start = System.nanoTime();
         gp = new GamePanel(WIDTH, HEIGHT, game, this);
         scp = new ScorePanel(game);
+        long built = PANEL_LATENCY.recordSince(start);
         add(gp);
         add(scp, BorderLayout.NORTH);
         pack();
+        event.finish("game", game.snapshot().getCardAmount(), built - start, System.nanoTime() - built);
     }
 
     // MODIFIES: this
-    // EFFECTS: handles a card location number being guessed
+    // EFFECTS: handles a card location number being guessed; a guess made while a pair is still revealed, or while
+    //          its turn is being played, ends the reveal at once and is kept as the first guess of the next turn
     private void handleNumberGuessed(int n) {
-        if (guesses.size() == 0) {
+        if (guesses.size() == 2) {
+            queuedGuess = n;
+            scheduler.runNow();
+        } else if (guesses.size() == 0) {
             guesses.add(n);
             gp.showCardIdentity(n);
-        } else if (guesses.size() == 1 && n != guesses.get(0)) {
+        } else if (n != guesses.get(0)) {
             guesses.add(n);
             gp.showCardIdentity(n);
-            schedule = Executors.newSingleThreadScheduledExecutor();
-            schedule.schedule(this::guessAPair, 1, TimeUnit.SECONDS);
+            scheduler.schedule(this::guessAPair, REVEAL_MILLIS);
         }
     }
 
     // MODIFIES: this
-    // EFFECTS: handles a pair of card location numbers being guessed
+    // EFFECTS: plays the guessed pair of card location numbers on the game loop, where it is also autosaved in the
+    //          background, then shows its result; records how long the turn took
     public void guessAPair() {
+        TurnEvent event = new TurnEvent();
+        event.begin();
+        long start = System.nanoTime();
         int n1 = guesses.get(0);
         int n2 = guesses.get(1);
-        game.countAnotherGuess();
-        if (game.isAMatch(n1, n2)) {
-            game.countAnotherMatch();
+        String name = slotName;
+        loop.submit(g -> playTurn(g, name, n1, n2), match -> {
+            showTurn(n1, n2, match);
+            TURN_LATENCY.recordSince(start);
+            event.finish(game.snapshot().getCardAmount(), match);
+            startNextTurn();
+        });
+    }
+
+    // MODIFIES: g
+    // EFFECTS: plays the guess of the cards at n1 and n2 on g and appends it to the save named name; returns true
+    //          if the cards match. Runs on the game loop
+    private boolean playTurn(MatchingGame g, String name, int n1, int n2) {
+        boolean match = g.makeGuess(n1, n2);
+        GUESSES.increment();
+        if (match) {
+            MATCHES.increment();
+        }
+        autosave.recordGuess(name, g, n1, n2, match);
+        return match;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes the cards at n1 and n2 out of play if they match and hides them again otherwise, and updates
+    //          the score
+    private void showTurn(int n1, int n2, boolean match) {
+        if (match) {
             gp.removeCardFromPlay(n1);
             gp.removeCardFromPlay(n2);
-            game.removeCardFromBoard(n1);
-            game.removeCardFromBoard(n2);
         } else {
             gp.hideCardIdentity(n1);
             gp.hideCardIdentity(n2);
         }
         scp.update();
         guesses.clear();
-        if (game.checkGameOver()) {
-            schedule.schedule(this::gameOver, 1, TimeUnit.SECONDS);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: ends the game if every match has been made; otherwise plays any guess made while the last turn was
+    //          revealed, unless its card has just been matched
+    private void startNextTurn() {
+        int next = queuedGuess;
+        queuedGuess = 0;
+        GameSnapshot latest = game.snapshot();
+        if (latest.checkGameOver()) {
+            scheduler.schedule(this::gameOver, REVEAL_MILLIS);
+        } else if (next != 0 && !latest.isCardMatched(next)) {
+            handleNumberGuessed(next);
         }
     }
 
@@ -179,9 +340,14 @@ public class MatchingGameApp extends JFrame implements ActionListener {
     private void gameOver() {
         remove(gp);
         remove(scp);
+        GuiRebuildEvent event = new GuiRebuildEvent();
+        event.begin();
+        long start = System.nanoTime();
         gop = new GameOverPanel(WIDTH, HEIGHT, game);
+        long built = PANEL_LATENCY.recordSince(start);
         add(gop);
         pack();
+        event.finish("game over", game.snapshot().getCardAmount(), built - start, System.nanoTime() - built);
     }
 
     // MODIFIES: this
@@ -37,7 +37,8 @@ public class MenuPanel extends JPanel {
     // MODIFIES: this
     // EFFECTS: initializes the text and adds it to the panel
     private void initializeText() {
-        text = new JLabel("There are currently " + game.getCardAmount() / 2 + " pairs of cards in the game.");
+        int numPairs = game.snapshot().getCardAmount() / 2;
+        text = new JLabel("There are currently " + numPairs + " pairs of cards in the game.");
         text.setFont(new Font("Arial", Font.PLAIN, 20));
         text.setForeground(Color.WHITE);
         text.setBackground(Color.BLACK);
@@ -48,7 +49,7 @@ public class MenuPanel extends JPanel {
     // MODIFIES: this
     // EFFECTS: updates the text to reflect the current number of cards in the game
     public void updateText() {
-        text.setText("There are currently " + game.getCardAmount() / 2 + " pairs of cards in the game.");
+        text.setText("There are currently " + game.snapshot().getCardAmount() / 2 + " pairs of cards in the game.");
     }
 
     // MODIFIES: this
@@ -1,5 +1,6 @@
 package ui.gui;
 
+import model.GameSnapshot;
 import model.MatchingGame;
 
 import javax.swing.*;
@@ -18,9 +19,10 @@ public class ScorePanel extends JPanel {
     public ScorePanel(MatchingGame game) {
         this.game = game;
         setBackground(Color.WHITE);
-        guessesLabel = new JLabel("GUESSES MADE: " + game.getNumGuesses());
+        GameSnapshot latest = game.snapshot();
+        guessesLabel = new JLabel("GUESSES MADE: " + latest.getNumGuesses());
         guessesLabel.setPreferredSize(new Dimension(LABEL_WIDTH, LABEL_HEIGHT));
-        matchesLabel = new JLabel("MATCHES MADE: " + game.getNumMatches());
+        matchesLabel = new JLabel("MATCHES MADE: " + latest.getNumMatches());
         matchesLabel.setPreferredSize(new Dimension(LABEL_WIDTH, LABEL_HEIGHT));
         add(guessesLabel);
         add(Box.createHorizontalStrut(10));
@@ -38,9 +40,10 @@ public class ScorePanel extends JPanel {
     }
 
     // MODIFIES: this
-    // EFFECTS: updates the number of guesses and matches to match those of current game state
+    // EFFECTS: updates the number of guesses and matches to match those of the game's latest snapshot
     public void update() {
-        guessesLabel.setText("GUESSES MADE: " + game.getNumGuesses());
-        matchesLabel.setText("MATCHES MADE: " + game.getNumMatches());
+        GameSnapshot latest = game.snapshot();
+        guessesLabel.setText("GUESSES MADE: " + latest.getNumGuesses());
+        matchesLabel.setText("MATCHES MADE: " + latest.getNumMatches());
     }
 }
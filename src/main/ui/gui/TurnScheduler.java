@@ -0,0 +1,54 @@
+package ui.gui;
+
+import javax.swing.*;
+
+// Represents the scheduler for the delayed steps of a turn, such as hiding a revealed pair or showing the game over
+// screen; steps run on the event dispatch thread, holding at most one pending step at a time, and every scheduler
+// shares the single thread that drives all Swing timers, so no threads are created per turn
+public class TurnScheduler {
+
+    private final Timer timer;
+    private Runnable pending;
+
+    // EFFECTS: constructs a scheduler with no pending step
+    public TurnScheduler() {
+        this.timer = new Timer(0, e -> runNow());
+        this.timer.setRepeats(false);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: cancels any pending step and schedules step to run on the event dispatch thread after delayMillis
+    public void schedule(Runnable step, int delayMillis) {
+        cancel();
+        this.pending = step;
+        timer.setInitialDelay(delayMillis);
+        timer.restart();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: cancels the pending step without running it; returns true if there was one
+    public boolean cancel() {
+        timer.stop();
+        boolean wasPending = pending != null;
+        pending = null;
+        return wasPending;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs the pending step at once instead of when it is due; returns true if there was one
+    public boolean runNow() {
+        timer.stop();
+        Runnable step = pending;
+        pending = null;
+        if (step == null) {
+            return false;
+        }
+        step.run();
+        return true;
+    }
+
+    // EFFECTS: returns true if a step is waiting to run
+    public boolean isPending() {
+        return pending != null;
+    }
+}
@@ -0,0 +1,77 @@
+package benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+// Times workloads the way a microbenchmark harness would: a number of warmup batches that are thrown away,
+// then measured batches, reporting the time and heap allocation per operation and the garbage collection
+// that happened while measuring
+public class BenchmarkRunner {
+    private final int warmupBatches;
+    private final int measuredBatches;
+    private final com.sun.management.ThreadMXBean threads;
+
+    // EFFECTS: constructs a runner that warms up for warmupBatches batches, then measures measuredBatches batches
+    public BenchmarkRunner(int warmupBatches, int measuredBatches) {
+        this.warmupBatches = warmupBatches;
+        this.measuredBatches = measuredBatches;
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    // EFFECTS: prints the heading of the table that run prints rows of
+    public static void printHeading() {
+        System.out.printf("%-34s %9s %14s %12s %6s %8s%n", "benchmark", "cards", "ns/op", "B/op", "gcs", "gc ms");
+    }
+
+    // REQUIRES: opsPerBatch >= 1
+    // EFFECTS: runs the workload and prints one row with its name, board size, time and allocation per
+    //          operation, and the number and duration of garbage collections while measuring
+    public void run(String name, int cardAmount, int opsPerBatch, Workload workload) throws Exception {
+        for (int i = 0; i < this.warmupBatches; i++) {
+            runBatch(workload, opsPerBatch);
+        }
+        long gcCount = totalGcCount();
+        long gcMillis = totalGcMillis();
+        long nanos = 0;
+        long bytes = 0;
+        for (int i = 0; i < this.measuredBatches; i++) {
+            long[] batch = runBatch(workload, opsPerBatch);
+            nanos += batch[0];
+            bytes += batch[1];
+        }
+        long ops = (long) opsPerBatch * this.measuredBatches;
+        System.out.printf("%-34s %9d %14.1f %12.1f %6d %8d%n", name, cardAmount, (double) nanos / ops,
+                (double) bytes / ops, totalGcCount() - gcCount, totalGcMillis() - gcMillis);
+    }
+
+    // EFFECTS: sets up and runs one batch, returning the nanoseconds and bytes allocated by its operations
+    private long[] runBatch(Workload workload, int opsPerBatch) throws Exception {
+        workload.setUp();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = this.threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < opsPerBatch; i++) {
+            workload.run(i);
+        }
+        long nanos = System.nanoTime() - start;
+        return new long[] {nanos, this.threads.getThreadAllocatedBytes(threadId) - bytesBefore};
+    }
+
+    // EFFECTS: returns the number of garbage collections so far, over all collectors
+    private static long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    // EFFECTS: returns the milliseconds spent in garbage collection so far, over all collectors
+    private static long totalGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,170 @@
+package benchmark;
+
+import model.BoardStorage;
+import model.EventLog;
+import model.MatchingGame;
+import persistence.BinaryReader;
+import persistence.BinaryWriter;
+import persistence.JsonReader;
+import persistence.JsonWriter;
+
+import java.io.File;
+
+// Benchmarks the hot paths of the model and persistence layers on boards of 4 to 1 000 000 cards.
+// Build the project, generate the fixtures once, then run the suite with a fixed heap, e.g.
+//     java -cp out/production/Project-Starter:out/test/Project-Starter:lib/json-20210307.jar \
+//          benchmark.FixtureGenerator
+//     java -Xms4g -Xmx4g -cp out/production/Project-Starter:out/test/Project-Starter:lib/json-20210307.jar \
+//          benchmark.BenchmarkSuite [name filter]
+// Each row gives the time and bytes allocated per operation, and the garbage collections while measuring.
+public class BenchmarkSuite {
+    private static final String OUTPUT_FILE = FixtureGenerator.FIXTURE_DIR + "output.json";
+    private static final String BINARY_OUTPUT_FILE = FixtureGenerator.FIXTURE_DIR + "output.bin";
+
+    private final BenchmarkRunner runner;
+    private final String filter;   // only benchmarks whose names contain filter are run
+
+    // EFFECTS: constructs a suite that runs the benchmarks whose names contain filter
+    public BenchmarkSuite(String filter) {
+        this.runner = new BenchmarkRunner(3, 5);
+        this.filter = filter;
+    }
+
+    // EFFECTS: runs every benchmark (or those whose names contain args[0]) on every fixture size
+    public static void main(String[] args) throws Exception {
+        BenchmarkSuite suite = new BenchmarkSuite(args.length > 0 ? args[0] : "");
+        BenchmarkRunner.printHeading();
+        for (int cardAmount : FixtureGenerator.CARD_AMOUNTS) {
+            for (BoardStorage storage : BoardStorage.values()) {
+                suite.runModelBenchmarks(cardAmount, storage);
+            }
+            suite.runPersistenceBenchmarks(cardAmount);
+            suite.runBinaryBenchmarks(cardAmount);
+        }
+    }
+
+    // EFFECTS: runs the given workload if its name passes the filter
+    private void run(String name, int cardAmount, int opsPerBatch, Workload workload) throws Exception {
+        if (name.contains(this.filter)) {
+            this.runner.run(name, cardAmount, opsPerBatch, workload);
+        }
+    }
+
+    // EFFECTS: benchmarks findCard, isAMatch, removeCardFromBoard, addCardPair and makeBoardArrangement
+    //          on games of the given size and storage
+    private void runModelBenchmarks(int cardAmount, BoardStorage storage) throws Exception {
+        String suffix = " " + storage.name().toLowerCase();
+        runLookupBenchmarks(cardAmount, storage, suffix);
+        runUpdateBenchmarks(cardAmount, storage, suffix);
+    }
+
+    // EFFECTS: benchmarks findCard and isAMatch on games of the given size and storage
+    private void runLookupBenchmarks(int cardAmount, BoardStorage storage, String suffix) throws Exception {
+        run("findCard" + suffix, cardAmount, 100000, new GameWorkload(cardAmount, storage) {
+            public void run(int i) {
+                game.findCard(1 + i % cardAmount);
+            }
+        });
+        run("isAMatch" + suffix, cardAmount, 100000, new GameWorkload(cardAmount, storage) {
+            public void run(int i) {
+                game.isAMatch(1 + i % cardAmount, 1 + (i + 1) % cardAmount);
+            }
+        });
+    }
+
+    // EFFECTS: benchmarks removeCardFromBoard, addCardPair and makeBoardArrangement on games of the given size
+    //          and storage
+    private void runUpdateBenchmarks(int cardAmount, BoardStorage storage, String suffix) throws Exception {
+        run("removeCardFromBoard" + suffix, cardAmount, cardAmount, new GameWorkload(cardAmount, storage) {
+            public void run(int i) {
+                game.removeCardFromBoard(i + 1);
+            }
+        });
+        run("addCardPair" + suffix, cardAmount, 10, new GameWorkload(cardAmount, storage) {
+            public void run(int i) {
+                game.addCardPair();
+            }
+        });
+        run("makeBoardArrangement" + suffix, cardAmount, 10, new GameWorkload(cardAmount, storage) {
+            public void run(int i) {
+                game.makeBoardArrangement();
+            }
+        });
+    }
+
+    // EFFECTS: benchmarks JsonWriter.write and JsonReader.read with the fixture of the given size
+    private void runPersistenceBenchmarks(int cardAmount) throws Exception {
+        String fixture = FixtureGenerator.fixturePath(cardAmount);
+        if (!new File(fixture).exists()) {
+            System.out.println("Missing " + fixture + "; run benchmark.FixtureGenerator first");
+            return;
+        }
+        MatchingGame saved = new JsonReader(fixture).read();
+        int ops = Math.max(1, 100000 / cardAmount);
+        run("JsonWriter.write", cardAmount, ops, new FileWorkload() {
+            public void run(int i) throws Exception {
+                JsonWriter writer = new JsonWriter(OUTPUT_FILE);
+                writer.open();
+                writer.write(saved);
+                writer.close();
+            }
+        });
+        run("JsonReader.read", cardAmount, ops, new FileWorkload() {
+            public void run(int i) throws Exception {
+                new JsonReader(fixture).read();
+            }
+        });
+    }
+
+    // EFFECTS: benchmarks BinaryWriter.write and BinaryReader.read with the binary fixture of the given size
+    private void runBinaryBenchmarks(int cardAmount) throws Exception {
+        String fixture = FixtureGenerator.binaryFixturePath(cardAmount);
+        if (!new File(fixture).exists()) {
+            System.out.println("Missing " + fixture + "; run benchmark.FixtureGenerator first");
+            return;
+        }
+        MatchingGame saved = new BinaryReader(fixture).read();
+        int ops = Math.max(1, 100000 / cardAmount);
+        run("BinaryWriter.write", cardAmount, ops, new FileWorkload() {
+            public void run(int i) throws Exception {
+                BinaryWriter writer = new BinaryWriter(BINARY_OUTPUT_FILE);
+                writer.open();
+                writer.write(saved);
+                writer.close();
+            }
+        });
+        run("BinaryReader.read", cardAmount, ops, new FileWorkload() {
+            public void run(int i) throws Exception {
+                new BinaryReader(fixture).read();
+            }
+        });
+    }
+
+    // A workload that starts every batch with a fresh game of a given size and storage and an empty event log
+    private abstract static class GameWorkload implements Workload {
+        protected final int cardAmount;
+        protected final BoardStorage storage;
+        protected MatchingGame game;
+
+        // EFFECTS: constructs a workload on games of cardAmount cards kept in the given storage
+        GameWorkload(int cardAmount, BoardStorage storage) {
+            this.cardAmount = cardAmount;
+            this.storage = storage;
+        }
+
+        @Override
+        public void setUp() {
+            EventLog.getInstance().clear();
+            this.game = new MatchingGame(this.cardAmount / 2, this.storage, MatchingGame.DEFAULT_IDENTITIES, 210);
+        }
+    }
+
+    // A workload that needs no fresh state between batches
+    private abstract static class FileWorkload implements Workload {
+
+        @Override
+        public void setUp() {
+            // nothing to prepare
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package benchmark;
+
+import model.BoardStorage;
+import model.ConcurrentMatchingGame;
+import model.MatchingGame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+// Measures how the throughput of guessing on one shared board scales from 1 thread to as many threads as there
+// are cores. Every thread guesses real pairs at random locations of the same board, so threads race to claim the
+// same pairs; the lock-free ConcurrentMatchingGame is compared with a MatchingGame guarded by a lock. Run with
+//     java -cp out/production/Project-Starter:out/test/Project-Starter:lib/json-20210307.jar \
+//          benchmark.ContentionBenchmark
+public class ContentionBenchmark {
+    private static final int PAIRS = 500000;
+    private static final int GUESSES_PER_THREAD = 2000000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    private final MatchingGame template;
+    private final int[] partners;   // location of the other card of each card's pair, indexed by location number
+
+    // EFFECTS: constructs a benchmark whose rounds each start from a copy of one arranged board
+    public ContentionBenchmark() {
+        this.template = new MatchingGame(PAIRS, BoardStorage.COMPACT, MatchingGame.DEFAULT_IDENTITIES, 210);
+        this.template.setLoggingEnabled(false);
+        this.partners = new int[template.getCardAmount() + 1];
+        Map<String, Integer> seen = new HashMap<>();
+        for (int loc = 1; loc <= template.getCardAmount(); loc++) {
+            Integer other = seen.remove(template.getIdentityAt(loc));
+            if (other == null) {
+                seen.put(template.getIdentityAt(loc), loc);
+            } else {
+                partners[loc] = other;
+                partners[other] = loc;
+            }
+        }
+    }
+
+    // EFFECTS: prints the guesses per microsecond of both games for 1, 2, 4, ... threads up to the number of cores
+    public static void main(String[] args) throws InterruptedException {
+        ContentionBenchmark benchmark = new ContentionBenchmark();
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("cores: " + cores);
+        System.out.println("threads\tlock-free guesses/us\tlocked guesses/us");
+        for (int threads : threadCounts(cores)) {
+            System.out.printf("%d\t%.1f\t%.1f%n", threads, benchmark.throughput(threads, false),
+                    benchmark.throughput(threads, true));
+        }
+    }
+
+    // EFFECTS: returns 1, 2, 4, ... up to cores, always ending with cores
+    private static List<Integer> threadCounts(int cores) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads = threads * 2) {
+            counts.add(threads);
+        }
+        counts.add(cores);
+        return counts;
+    }
+
+    // EFFECTS: returns the average guesses per microsecond of threads threads guessing on one board, with the
+    //          locked game if locked, and the lock-free one otherwise
+    private double throughput(int threads, boolean locked) throws InterruptedException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            timeRound(threads, locked);
+        }
+        long nanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            nanos += timeRound(threads, locked);
+        }
+        return (double) threads * GUESSES_PER_THREAD * MEASURED_ROUNDS / (nanos / 1000.0);
+    }
+
+    // EFFECTS: returns the nanoseconds taken by threads threads to each make GUESSES_PER_THREAD guesses on a fresh
+    //          copy of the board (making the copy is not timed)
+    private long timeRound(int threads, boolean locked) throws InterruptedException {
+        Guesser guesser = locked ? lockedGuesser(template.copy()) : new ConcurrentMatchingGame(template)::makeGuess;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> players = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            players.add(new Thread(() -> {
+                ready.countDown();
+                awaitQuietly(go);
+                for (int i = 0; i < GUESSES_PER_THREAD; i++) {
+                    int loc = 1 + random.nextInt(partners.length - 1);
+                    guesser.guess(loc, partners[loc]);
+                }
+            }));
+        }
+        players.forEach(Thread::start);
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread player : players) {
+            player.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    // EFFECTS: returns a guesser that plays on game while holding its lock
+    private static Guesser lockedGuesser(MatchingGame game) {
+        game.setLoggingEnabled(false);
+        return (n1, n2) -> {
+            synchronized (game) {
+                if (game.isCardMatched(n1)) {
+                    game.countAnotherGuess();
+                    return false;
+                }
+                return game.makeGuess(n1, n2);
+            }
+        };
+    }
+
+    // EFFECTS: waits for latch to open, giving up if interrupted
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Represents one player's way of guessing a pair on the shared board
+    private interface Guesser {
+
+        // EFFECTS: guesses the cards at n1 and n2 and returns true if this guess matched them
+        boolean guess(int n1, int n2);
+    }
+}
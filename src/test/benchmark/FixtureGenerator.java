@@ -0,0 +1,69 @@
+package benchmark;
+
+import model.BoardStorage;
+import model.MatchingGame;
+import persistence.BinaryWriter;
+import persistence.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+// Writes saved games of every benchmarked size to FIXTURE_DIR, in both save formats, each half played
+// (every other pair matched), so that loading and saving benchmarks read and write realistic files
+public class FixtureGenerator {
+    public static final String FIXTURE_DIR = "./data/benchmark/";
+    public static final int[] CARD_AMOUNTS = {4, 100, 10000, 1000000};
+    private static final long SEED = 210;
+
+    // EFFECTS: writes a fixture for every size in CARD_AMOUNTS
+    public static void main(String[] args) throws IOException {
+        new File(FIXTURE_DIR).mkdirs();
+        for (int cardAmount : CARD_AMOUNTS) {
+            MatchingGame game = makeHalfPlayedGame(cardAmount, BoardStorage.OBJECTS);
+            JsonWriter writer = new JsonWriter(fixturePath(cardAmount));
+            writer.open();
+            writer.write(game);
+            writer.close();
+            BinaryWriter binaryWriter = new BinaryWriter(binaryFixturePath(cardAmount));
+            binaryWriter.open();
+            binaryWriter.write(game);
+            binaryWriter.close();
+            System.out.println("Wrote " + fixturePath(cardAmount) + " and " + binaryFixturePath(cardAmount));
+        }
+    }
+
+    // EFFECTS: returns the path of the fixture with the given number of cards
+    public static String fixturePath(int cardAmount) {
+        return FIXTURE_DIR + "game-" + cardAmount + ".json";
+    }
+
+    // EFFECTS: returns the path of the binary fixture with the given number of cards
+    public static String binaryFixturePath(int cardAmount) {
+        return FIXTURE_DIR + "game-" + cardAmount + ".bin";
+    }
+
+    // REQUIRES: cardAmount is even and >= 2
+    // EFFECTS: returns a game of cardAmount cards, always arranged the same way, in which every other
+    //          pair (by identity) has been matched
+    public static MatchingGame makeHalfPlayedGame(int cardAmount, BoardStorage storage) {
+        MatchingGame game = new MatchingGame(cardAmount / 2, storage, MatchingGame.DEFAULT_IDENTITIES, SEED);
+        game.setLoggingEnabled(false);
+        Map<String, Integer> pairNumbers = new HashMap<>();
+        for (String identity : game.getCardIdentities()) {
+            pairNumbers.put(identity, pairNumbers.size());
+        }
+        Map<String, Integer> firstLocations = new HashMap<>();
+        for (int i = 1; i <= cardAmount; i++) {
+            String identity = game.getIdentityAt(i);
+            if (pairNumbers.get(identity) % 2 == 1) {
+                Integer first = firstLocations.putIfAbsent(identity, i);
+                if (first != null) {
+                    game.makeGuess(first, i);
+                }
+            }
+        }
+        return game;
+    }
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import model.Card;
+import model.EventLog;
+import model.MatchingGame;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+// Measures the average cost of resolving one turn (guess a pair, then remove both matched cards from the board)
+// on boards from 4 to 100 000 cards; with a location-indexed board the cost per turn should stay flat
+public class TurnBenchmark {
+    private static final int[] CARD_AMOUNTS = {4, 100, 1000, 10000, 100000};
+    private static final int TURNS_PER_ROUND = 50000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    // EFFECTS: runs the benchmark for each board size and prints the average nanoseconds per turn
+    public static void main(String[] args) {
+        System.out.println("cards\tns/turn");
+        for (int cardAmount : CARD_AMOUNTS) {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                timeTurns(cardAmount);
+            }
+            long total = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                total += timeTurns(cardAmount);
+            }
+            System.out.println(cardAmount + "\t" + (total / MEASURED_ROUNDS / TURNS_PER_ROUND));
+        }
+    }
+
+    // EFFECTS: plays TURNS_PER_ROUND matching turns on fresh games of the given size and returns the
+    //          nanoseconds spent resolving turns (building the games and clearing the event log are not timed)
+    private static long timeTurns(int cardAmount) {
+        EventLog.getInstance().clear();
+        long elapsed = 0;
+        int turnsLeft = TURNS_PER_ROUND;
+        while (turnsLeft > 0) {
+            MatchingGame game = makeOrderedGame(cardAmount);
+            int turns = Math.min(turnsLeft, cardAmount / 2);
+            long start = System.nanoTime();
+            for (int pair = 0; pair < turns; pair++) {
+                int n1 = 2 * pair + 1;
+                int n2 = 2 * pair + 2;
+                game.countAnotherGuess();
+                if (game.isAMatch(n1, n2)) {
+                    game.countAnotherMatch();
+                    game.removeCardFromBoard(n1);
+                    game.removeCardFromBoard(n2);
+                }
+            }
+            elapsed += System.nanoTime() - start;
+            turnsLeft -= turns;
+        }
+        return elapsed;
+    }
+
+    // EFFECTS: returns an unshuffled game of the given size where locations 2k-1 and 2k hold a matching pair
+    private static MatchingGame makeOrderedGame(int cardAmount) {
+        List<String> identities = new ArrayList<>(cardAmount / 2);
+        List<Card> cards = new ArrayList<>(cardAmount);
+        for (int pair = 0; pair < cardAmount / 2; pair++) {
+            String identity = "P" + pair;
+            identities.add(identity);
+            cards.add(new Card(identity, 2 * pair + 1, false));
+            cards.add(new Card(identity, 2 * pair + 2, false));
+        }
+        return new MatchingGame(cardAmount, identities, cards, new LinkedList<>(), new ArrayList<>(), 0, 0);
+    }
+}
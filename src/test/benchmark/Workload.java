@@ -0,0 +1,13 @@
+package benchmark;
+
+// Represents a benchmarked operation, run in batches; only the operations themselves are timed
+public interface Workload {
+
+    // MODIFIES: this
+    // EFFECTS: prepares fresh state for a batch of operations; this is not timed
+    void setUp() throws Exception;
+
+    // MODIFIES: this
+    // EFFECTS: runs operation number i (counting from 0) of the current batch
+    void run(int i) throws Exception;
+}
@@ -0,0 +1,53 @@
+package metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void runBefore() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getP99Nanos());
+    }
+
+    @Test
+    void testBuckets() {
+        for (long latency = 0; latency < 100000; latency++) {
+            int bucket = LatencyHistogram.bucketOf(latency);
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) >= latency);
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) - latency <= latency / 8);
+            assertTrue(bucket == 0 || LatencyHistogram.upperBoundOf(bucket - 1) < latency);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testPercentiles() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        histogram.record(-5);
+        assertEquals(1001, histogram.getCount());
+        assertEquals(1000000, histogram.getMaxNanos());
+        assertEquals(500000 * 1001 / 1001.0, histogram.getMeanNanos(), 1000);
+        assertEquals(500000, histogram.getP50Nanos(), 500000 / 8);
+        assertEquals(900000, histogram.getP90Nanos(), 900000 / 8);
+        assertEquals(990000, histogram.getP99Nanos(), 990000 / 8);
+        assertEquals(1000000, histogram.getPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+}
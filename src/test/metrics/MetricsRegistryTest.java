@@ -0,0 +1,43 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsRegistryTest {
+
+    @Test
+    void testSameNameSameMetric() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        Counter counter = registry.counter("testCounter");
+        assertSame(counter, registry.counter("testCounter"));
+        assertSame(registry.histogram("testHistogram"), registry.histogram("testHistogram"));
+        long before = counter.getCount();
+        counter.increment();
+        counter.add(2);
+        assertEquals(before + 3, counter.getCount());
+    }
+
+    @Test
+    void testPublishedOverJmx() throws JMException {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.counter("testPublishedCounter").add(7);
+        registry.publish();
+        registry.gauge("testGauge", () -> 42);
+        registry.gauge("testGauge", () -> 43);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName counterName = new ObjectName("MatchingGame:type=Counter,name=\"testPublishedCounter\"");
+        assertEquals(7L, server.getAttribute(counterName, "Count"));
+        ObjectName gaugeName = new ObjectName("MatchingGame:type=Gauge,name=\"testGauge\"");
+        assertEquals(43L, server.getAttribute(gaugeName, "Value"));
+        registry.histogram("testLateHistogram").record(10);
+        ObjectName histogramName = new ObjectName("MatchingGame:type=LatencyHistogram,name=\"testLateHistogram\"");
+        assertEquals(1L, server.getAttribute(histogramName, "Count"));
+    }
+}
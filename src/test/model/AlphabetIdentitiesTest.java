@@ -0,0 +1,29 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AlphabetIdentitiesTest {
+
+    @Test
+    void testLetters() {
+        assertEquals("A", AlphabetIdentities.LETTERS.identityOf(0));
+        assertEquals("Z", AlphabetIdentities.LETTERS.identityOf(25));
+        assertEquals("AA", AlphabetIdentities.LETTERS.identityOf(26));
+        assertEquals("AZ", AlphabetIdentities.LETTERS.identityOf(51));
+        assertEquals("BA", AlphabetIdentities.LETTERS.identityOf(52));
+        assertEquals("ZZ", AlphabetIdentities.LETTERS.identityOf(701));
+        assertEquals("AAA", AlphabetIdentities.LETTERS.identityOf(702));
+    }
+
+    @Test
+    void testOtherAlphabet() {
+        AlphabetIdentities binary = new AlphabetIdentities("01");
+        assertEquals("0", binary.identityOf(0));
+        assertEquals("1", binary.identityOf(1));
+        assertEquals("00", binary.identityOf(2));
+        assertEquals("11", binary.identityOf(5));
+        assertEquals("000", binary.identityOf(6));
+    }
+}
@@ -0,0 +1,65 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandQueueTest {
+
+    @Test
+    void testFirstInFirstOut() {
+        CommandQueue<String> queue = new CommandQueue<>();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        queue.offer("a");
+        queue.offer("b");
+        assertFalse(queue.isEmpty());
+        assertEquals("a", queue.poll());
+        queue.offer("c");
+        assertEquals("b", queue.poll());
+        assertEquals("c", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testManyProducersKeepTheirOwnOrder() throws InterruptedException {
+        CommandQueue<int[]> queue = new CommandQueue<>();
+        int producers = 4;
+        int each = 20000;
+        List<Thread> threads = startProducers(queue, producers, each);
+        int[] next = new int[producers];
+        int taken = 0;
+        while (taken < producers * each) {
+            int[] element = queue.poll();
+            if (element != null) {
+                assertEquals(next[element[0]], element[1]);
+                next[element[0]]++;
+                taken++;
+            }
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    // EFFECTS: starts producers threads, each offering {its number, i} to queue for i from 0 to each - 1,
+    //          and returns them
+    private List<Thread> startProducers(CommandQueue<int[]> queue, int producers, int each) {
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < each; i++) {
+                    queue.offer(new int[] {producer, i});
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        return threads;
+    }
+}
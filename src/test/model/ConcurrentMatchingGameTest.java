@@ -0,0 +1,98 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentMatchingGameTest {
+    private static final int PAIRS = 5000;
+    private MatchingGame original;
+    private ConcurrentMatchingGame game;
+
+    @BeforeEach
+    void runBefore() {
+        original = new MatchingGame(PAIRS, BoardStorage.COMPACT, MatchingGame.DEFAULT_IDENTITIES, 23);
+        original.setLoggingEnabled(false);
+        game = new ConcurrentMatchingGame(original);
+    }
+
+    // EFFECTS: returns the location of the other card of each card's pair, indexed by location number
+    private int[] partners() {
+        int[] partners = new int[game.getCardAmount() + 1];
+        Map<String, Integer> seen = new HashMap<>();
+        for (int loc = 1; loc <= game.getCardAmount(); loc++) {
+            Integer other = seen.remove(game.getIdentityAt(loc));
+            if (other == null) {
+                seen.put(game.getIdentityAt(loc), loc);
+            } else {
+                partners[loc] = other;
+                partners[other] = loc;
+            }
+        }
+        return partners;
+    }
+
+    @Test
+    void testGuessOnOneThread() {
+        int[] partners = partners();
+        int other = partners[1] == 2 ? 3 : 2;
+        assertFalse(game.makeGuess(1, other));
+        assertTrue(game.makeGuess(partners[1], 1));
+        assertFalse(game.makeGuess(1, partners[1]));
+        assertTrue(game.isCardMatched(1));
+        assertTrue(game.isCardMatched(partners[1]));
+        assertEquals(3, game.getNumGuesses());
+        assertEquals(1, game.getNumMatches());
+        assertFalse(game.checkGameOver());
+        assertFalse(original.isCardMatched(1));
+    }
+
+    @Test
+    void testEveryPairIsMatchedExactlyOnceByRacingThreads() throws InterruptedException {
+        int[] partners = partners();
+        AtomicInteger claimed = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 997;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < game.getCardAmount(); i++) {
+                    int loc = 1 + (offset + i) % game.getCardAmount();
+                    if (game.makeGuess(loc, partners[loc])) {
+                        claimed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(PAIRS, claimed.get());
+        assertEquals(PAIRS, game.getNumMatches());
+        assertEquals(4L * game.getCardAmount(), game.getNumGuesses());
+        assertTrue(game.checkGameOver());
+    }
+
+    @Test
+    void testToMatchingGame() {
+        int[] partners = partners();
+        game.makeGuess(1, partners[1]);
+        game.makeGuess(2, partners[2]);
+        MatchingGame copy = game.toMatchingGame(BoardStorage.OBJECTS);
+        assertEquals(game.getCardAmount(), copy.getCardAmount());
+        assertEquals(game.getNumGuesses(), copy.getNumGuesses());
+        assertEquals(game.getNumMatches(), copy.getNumMatches());
+        assertEquals(original.getSeed(), copy.getSeed());
+        for (int loc = 1; loc <= game.getCardAmount(); loc++) {
+            assertEquals(game.getIdentityAt(loc), copy.getIdentityAt(loc));
+            assertEquals(game.isCardMatched(loc), copy.isCardMatched(loc));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventLogTest {
+    private EventLog log;
+
+    @BeforeEach
+    void runBefore() {
+        log = EventLog.getInstance();
+        log.clear();
+    }
+
+    // EFFECTS: returns the descriptions of the events in the log, oldest first
+    private List<String> descriptions() {
+        List<String> descriptions = new ArrayList<>();
+        for (Event e : log) {
+            descriptions.add(e.getDescription());
+        }
+        return descriptions;
+    }
+
+    @Test
+    void testLogAndClear() {
+        log.logEvent(new Event("first"));
+        log.logEvent(new Event("second"));
+        assertEquals(3, log.size());
+        assertEquals("Event log cleared.", descriptions().get(0));
+        assertEquals("second", descriptions().get(2));
+        log.clear();
+        assertEquals(1, log.size());
+    }
+
+    @Test
+    void testOldestEventsOverwritten() {
+        for (int i = 0; i < EventLog.CAPACITY + 10; i++) {
+            log.logEvent(new Event("event {}", i));
+        }
+        List<String> descriptions = descriptions();
+        assertEquals(EventLog.CAPACITY, log.size());
+        assertEquals(EventLog.CAPACITY, descriptions.size());
+        assertEquals("event 10", descriptions.get(0));
+        assertEquals("event " + (EventLog.CAPACITY + 9), descriptions.get(EventLog.CAPACITY - 1));
+    }
+
+    @Test
+    void testConcurrentLogging() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    log.logEvent(new Event("event"));
+                }
+            });
+            threads[t].start();
+        }
+        int seen = 0;
+        for (Event e : log) {
+            seen++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(seen >= 1);
+        assertEquals(4001, log.size());
+        assertEquals(4001, descriptions().size());
+    }
+
+    @Test
+    void testEventFormatsLazily() {
+        Event e = new Event("Guessed {} and {}, {}", 3, "B");
+        assertEquals("Guessed 3 and B, {}", e.getDescription());
+        assertEquals("{} as given", new Event("{} as given").getDescription());
+        assertEquals(e.getTimeNanos() / 1000000, e.getDate().getTime());
+        assertTrue(Math.abs(e.getDate().getTime() - System.currentTimeMillis()) < 1000);
+    }
+}
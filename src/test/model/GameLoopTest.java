@@ -0,0 +1,105 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameLoopTest {
+    private MatchingGame game;
+    private AtomicInteger batches;
+    private GameLoop loop;
+
+    @BeforeEach
+    void runBefore() {
+        game = new MatchingGame(10);
+        game.setLoggingEnabled(false);
+        batches = new AtomicInteger();
+        loop = new GameLoop(game, batch -> {
+            batches.incrementAndGet();
+            batch.run();
+        });
+        loop.start();
+    }
+
+    @AfterEach
+    void runAfter() throws InterruptedException {
+        loop.close();
+    }
+
+    @Test
+    void testCommandsAppliedInOrderAndPublishedInBatches() throws InterruptedException {
+        List<Integer> results = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 1000; i++) {
+            loop.submit(g -> {
+                g.countAnotherGuess();
+                return g.getNumGuesses();
+            }, results::add);
+        }
+        loop.close();
+        assertEquals(1000, game.getNumGuesses());
+        assertEquals(1000, results.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 1, results.get(i));
+        }
+        assertTrue(batches.get() >= 1 && batches.get() <= 1000);
+    }
+
+    @Test
+    void testManyThreadsSubmit() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    loop.run(MatchingGame::countAnotherGuess, null);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join();
+        }
+        loop.close();
+        assertEquals(40000, game.getNumGuesses());
+        assertEquals(0, batches.get());
+    }
+
+    @Test
+    void testReplaceGame() throws InterruptedException {
+        MatchingGame other = new MatchingGame(2);
+        AtomicInteger ran = new AtomicInteger();
+        loop.run(MatchingGame::countAnotherGuess, null);
+        loop.replaceGame(other);
+        loop.run(MatchingGame::countAnotherMatch, ran::incrementAndGet);
+        loop.close();
+        assertEquals(1, game.getNumGuesses());
+        assertEquals(0, game.getNumMatches());
+        assertEquals(1, other.getNumMatches());
+        assertEquals(1, ran.get());
+    }
+
+    @Test
+    void testFailingCommandIsReportedAndLoopContinues() throws InterruptedException {
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        List<Throwable> reported = Collections.synchronizedList(new ArrayList<>());
+        Thread.setDefaultUncaughtExceptionHandler((t, e) -> reported.add(e));
+        try {
+            loop.submit(g -> {
+                throw new IllegalStateException("bad command");
+            }, result -> fail("a failed command has no result"));
+            loop.run(MatchingGame::countAnotherGuess, null);
+            loop.close();
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previous);
+        }
+        assertEquals(1, reported.size());
+        assertEquals("bad command", reported.get(0).getMessage());
+        assertEquals(1, game.getNumGuesses());
+    }
+}
@@ -5,8 +5,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 
-import static model.MatchingGame.POSSIBLE_IDENTITIES;
 import static org.junit.jupiter.api.Assertions.*;
 
 class MatchingGameTest {
@@ -61,14 +61,15 @@ class MatchingGameTest {
     }
 
     @Test
-    void testAddCardPairsMaximum() {
-        for (int i = 0; i <= 26; i++) {
+    void testAddCardPairsBeyondAlphabet() {
+        for (int i = 0; i < 25; i++) {
             testGame.addCardPair();
         }
-        assertEquals(26, testGame.getCardIdentities().size());
-
-        testGame.addCardPair();
-        assertEquals(26, testGame.getCardIdentities().size());
+        assertEquals(27, testGame.getCardIdentities().size());
+        assertEquals("Z", testGame.getCardIdentities().get(25));
+        assertEquals("AA", testGame.getCardIdentities().get(26));
+        assertEquals(54, testGame.getCardAmount());
+        assertEquals(54, testGame.getUnmatchedCards().size());
     }
 
     @Test
@@ -78,29 +79,46 @@ class MatchingGameTest {
         assertEquals("D", testGame.findUnusedIdentity());
         testGame.addCardPair();
         assertEquals("E", testGame.findUnusedIdentity());
+    }
+
+    @Test
+    void testFindUnusedIdentityAtEndOfAlphabet() {
+        for (int i = 0; i < 23; i++) {
+            testGame.addCardPair();
+        }
+        assertEquals("Z", testGame.findUnusedIdentity());
+    }
+
+    @Test
+    void testFindUnusedIdentityPastEndOfAlphabet() {
+        for (int i = 0; i < 24; i++) {
+            testGame.addCardPair();
+        }
+        assertEquals("AA", testGame.findUnusedIdentity());
         testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        testGame.addCardPair();
-        assertNull(testGame.findUnusedIdentity());
+        assertEquals("AB", testGame.findUnusedIdentity());
+    }
+
+    @Test
+    void testFindUnusedIdentitySkipsIdentitiesInUse() {
+        MatchingGame loadedGame = new MatchingGame(4, new LinkedList<>(Arrays.asList("A", "C")),
+                new LinkedList<>(Arrays.asList(new Card("A", 1, false), new Card("C", 2, false),
+                        new Card("A", 3, false), new Card("C", 4, false))),
+                new LinkedList<>(), new LinkedList<>(), 0, 0);
+        assertEquals("B", loadedGame.findUnusedIdentity());
+        loadedGame.addCardPair();
+        assertEquals("D", loadedGame.findUnusedIdentity());
+        assertEquals(new LinkedList<>(Arrays.asList("A", "C", "B")), loadedGame.getCardIdentities());
+    }
+
+    @Test
+    void testOtherIdentitySources() {
+        MatchingGame numericGame = new MatchingGame(BoardStorage.OBJECTS, new NumericIdentities());
+        assertEquals(new LinkedList<>(Arrays.asList("1", "2")), numericGame.getCardIdentities());
+        assertEquals("3", numericGame.findUnusedIdentity());
+
+        MatchingGame symbolGame = new MatchingGame(BoardStorage.COMPACT, AlphabetIdentities.SYMBOLS);
+        assertEquals(new LinkedList<>(Arrays.asList("\u2660", "\u2663")), symbolGame.getCardIdentities());
     }
 
     @Test
@@ -218,4 +236,343 @@ class MatchingGameTest {
         testGame.countAnotherMatch();
         assertTrue(testGame.checkGameOver());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCompactConstructor() {
+        MatchingGame compactGame = new MatchingGame(BoardStorage.COMPACT);
+        assertEquals(4, compactGame.getCardAmount());
+        assertEquals(new LinkedList<>(Arrays.asList("A", "B")), compactGame.getCardIdentities());
+        assertEquals(4, compactGame.getUnmatchedCards().size());
+        assertEquals(new LinkedList<>(Arrays.asList(1, 2, 3, 4)), compactGame.getUnmatchedLocationNums());
+        assertEquals(0, compactGame.getMatchedCards().size());
+    }
+
+    @Test
+    void testCompactRemoveCardFromBoard() {
+        MatchingGame compactGame = new MatchingGame(BoardStorage.COMPACT);
+        String identity = compactGame.findCard(3).getIdentity();
+        compactGame.removeCardFromBoard(3);
+
+        assertNull(compactGame.findCard(3));
+        assertEquals(new LinkedList<>(Arrays.asList(1, 2, 4)), compactGame.getUnmatchedLocationNums());
+        assertEquals(1, compactGame.getMatchedCards().size());
+        assertEquals(3, compactGame.getMatchedCards().get(0).getLocationNum());
+        assertEquals(identity, compactGame.getMatchedCards().get(0).getIdentity());
+        assertTrue(compactGame.getMatchedCards().get(0).getStatus());
+    }
+
+    @Test
+    void testCompactAddCardPairAndIsAMatch() {
+        MatchingGame compactGame = new MatchingGame(BoardStorage.COMPACT);
+        compactGame.addCardPair();
+        assertEquals(6, compactGame.getCardAmount());
+        assertEquals(new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5, 6)), compactGame.getUnmatchedLocationNums());
+
+        int matches = 0;
+        for (int i = 1; i <= 6; i++) {
+            for (int j = i + 1; j <= 6; j++) {
+                if (compactGame.isAMatch(i, j)) {
+                    assertEquals(compactGame.findCard(i).getIdentity(), compactGame.findCard(j).getIdentity());
+                    matches++;
+                }
+            }
+        }
+        assertEquals(3, matches);
+    }
+
+    @Test
+    void testUnmatchedCardsViewIsLive() {
+        List<Card> unmatched = testGame.getUnmatchedCards();
+        testGame.removeCardFromBoard(2);
+        assertEquals(3, unmatched.size());
+        assertEquals(1, unmatched.get(0).getLocationNum());
+        assertEquals(3, unmatched.get(1).getLocationNum());
+        assertEquals(4, unmatched.get(2).getLocationNum());
+    }
+
+    @Test
+    void testConstructorWithPairCount() {
+        MatchingGame bigGame = new MatchingGame(1000);
+        assertEquals(2000, bigGame.getCardAmount());
+        assertEquals(1000, bigGame.getCardIdentities().size());
+        assertEquals("A", bigGame.getCardIdentities().get(0));
+        assertEquals("ALL", bigGame.getCardIdentities().get(999));
+        assertEquals(2000, bigGame.getUnmatchedLocationNums().size());
+        assertEquals(2000, bigGame.getUnmatchedLocationNums().get(1999));
+        assertEquals(0, bigGame.getNumGuesses());
+        assertEquals(0, bigGame.getNumMatches());
+    }
+
+    @Test
+    void testAddCardPairsLogsOneEvent() {
+        EventLog.getInstance().clear();
+        testGame.addCardPairs(3);
+
+        assertEquals(10, testGame.getCardAmount());
+        assertEquals(new LinkedList<>(Arrays.asList("A", "B", "C", "D", "E")), testGame.getCardIdentities());
+        assertEquals(new LinkedList<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)),
+                testGame.getUnmatchedLocationNums());
+        int numEvents = 0;
+        Event lastEvent = null;
+        for (Event e : EventLog.getInstance()) {
+            numEvents++;
+            lastEvent = e;
+        }
+        assertEquals(2, numEvents);
+        assertEquals("Added 3 pairs of cards with identities 'C' to 'E' to the game.", lastEvent.getDescription());
+    }
+
+    @Test
+    void testSameSeedSameArrangement() {
+        MatchingGame game1 = new MatchingGame(50, BoardStorage.OBJECTS, MatchingGame.DEFAULT_IDENTITIES, 210);
+        MatchingGame game2 = new MatchingGame(50, BoardStorage.COMPACT, MatchingGame.DEFAULT_IDENTITIES, 210);
+        MatchingGame game3 = new MatchingGame(50, BoardStorage.OBJECTS, MatchingGame.DEFAULT_IDENTITIES, 211);
+        assertEquals(210, game1.getSeed());
+        boolean differs = false;
+        for (int i = 1; i <= 100; i++) {
+            assertEquals(game1.findCard(i).getIdentity(), game2.findCard(i).getIdentity());
+            if (!game1.findCard(i).getIdentity().equals(game3.findCard(i).getIdentity())) {
+                differs = true;
+            }
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    void testAddCardPairKeepsSeed() {
+        MatchingGame grownGame = new MatchingGame(2, BoardStorage.OBJECTS, MatchingGame.DEFAULT_IDENTITIES, 7);
+        grownGame.addCardPair();
+        grownGame.addCardPair();
+        MatchingGame builtGame = new MatchingGame(4, BoardStorage.OBJECTS, MatchingGame.DEFAULT_IDENTITIES, 7);
+        for (int i = 1; i <= 8; i++) {
+            assertEquals(builtGame.findCard(i).getIdentity(), grownGame.findCard(i).getIdentity());
+        }
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        for (BoardStorage storage : BoardStorage.values()) {
+            MatchingGame original = new MatchingGame(3, storage, MatchingGame.DEFAULT_IDENTITIES, 5);
+            original.makeGuess(1, 2);
+            String[] identities = new String[7];
+            for (int i = 1; i <= 6; i++) {
+                identities[i] = original.getIdentityAt(i);
+            }
+            MatchingGame copy = original.copy();
+            original.addCardPair();
+            original.makeGuess(3, 4);
+
+            assertEquals(6, copy.getCardAmount());
+            assertEquals(1, copy.getNumGuesses());
+            assertEquals(5, copy.getSeed());
+            assertEquals(3, copy.getCardIdentities().size());
+            assertFalse(copy.isCardMatched(3));
+            for (int i = 1; i <= 6; i++) {
+                assertEquals(identities[i], copy.getIdentityAt(i));
+            }
+        }
+    }
+
+    @Test
+    void testSnapshotDoesNotChangeWithGame() {
+        for (BoardStorage storage : BoardStorage.values()) {
+            MatchingGame game = new MatchingGame(3, storage, MatchingGame.DEFAULT_IDENTITIES, 5);
+            game.setLoggingEnabled(false);
+            GameSnapshot before = game.snapshot();
+            int partner = 2;
+            while (!game.getIdentityAt(partner).equals(game.getIdentityAt(1))) {
+                partner++;
+            }
+            assertTrue(game.makeGuess(1, partner));
+            GameSnapshot after = game.snapshot();
+
+            assertEquals(before.getVersion() + 1, after.getVersion());
+            assertFalse(before.isCardMatched(1));
+            assertEquals(0, before.getNumGuesses());
+            assertTrue(after.isCardMatched(1));
+            assertTrue(after.isCardMatched(partner));
+            assertEquals(1, after.getNumGuesses());
+            assertEquals(1, after.getNumMatches());
+            assertEquals(5, after.getSeed());
+            for (int i = 1; i <= 6; i++) {
+                assertEquals(game.getIdentityAt(i), after.getIdentityAt(i));
+                assertEquals(game.isCardMatched(i), after.isCardMatched(i));
+            }
+        }
+    }
+
+    @Test
+    void testSnapshotFollowsEveryChange() {
+        GameSnapshot first = testGame.snapshot();
+        testGame.countAnotherGuess();
+        testGame.countAnotherMatch();
+        testGame.removeCardFromBoard(2);
+        testGame.addCardPair();
+        GameSnapshot last = testGame.snapshot();
+
+        assertEquals(first.getVersion() + 4, last.getVersion());
+        assertEquals(4, first.getCardAmount());
+        assertEquals(6, last.getCardAmount());
+        assertEquals(testGame.getCardIdentities(), last.getCardIdentities());
+        assertEquals(1, last.getNumGuesses());
+        assertEquals(1, last.getNumMatches());
+        for (int i = 1; i <= 6; i++) {
+            assertEquals(testGame.getIdentityAt(i), last.getIdentityAt(i));
+            assertEquals(testGame.isCardMatched(i), last.isCardMatched(i));
+        }
+        assertSame(last, testGame.copy().snapshot());
+    }
+
+    @Test
+    void testHistoryOffByDefault() {
+        assertFalse(testGame.isHistoryEnabled());
+        testGame.makeGuess(1, 2);
+        assertFalse(testGame.canUndo());
+
+        testGame.setHistoryEnabled(true);
+        testGame.makeGuess(3, 4);
+        assertTrue(testGame.canUndo());
+        assertTrue(testGame.copy().isHistoryEnabled());
+
+        testGame.setHistoryEnabled(false);
+        assertFalse(testGame.canUndo());
+    }
+
+    @Test
+    void testUndo() {
+        for (BoardStorage storage : BoardStorage.values()) {
+            MatchingGame game = makeUndoableGame(storage);
+            assertFalse(game.canUndo());
+            int partner = playMissThenMatch(game);
+            GameSnapshot end = game.snapshot();
+
+            game.undo();
+            game.undo();
+            assertFalse(game.canUndo());
+            assertTrue(game.canRedo());
+            assertEquals(0, game.getNumGuesses());
+            assertEquals(0, game.getNumMatches());
+            assertFalse(game.isCardMatched(1));
+            assertFalse(game.isCardMatched(partner));
+            assertEquals(6, game.getUnmatchedCards().size());
+            assertFalse(game.snapshot().isCardMatched(1));
+            assertTrue(game.snapshot().getVersion() > end.getVersion());
+        }
+    }
+
+    @Test
+    void testRedo() {
+        for (BoardStorage storage : BoardStorage.values()) {
+            MatchingGame game = makeUndoableGame(storage);
+            GameSnapshot start = game.snapshot();
+            int partner = playMissThenMatch(game);
+            game.undo();
+            game.undo();
+
+            game.redo();
+            game.redo();
+            assertFalse(game.canRedo());
+            assertEquals(2, game.getNumGuesses());
+            assertEquals(1, game.getNumMatches());
+            assertTrue(game.isCardMatched(1));
+            assertTrue(game.isCardMatched(partner));
+            assertEquals(4, game.getUnmatchedCards().size());
+            assertTrue(game.snapshot().isCardMatched(partner));
+            assertEquals(start.getVersion() + 6, game.snapshot().getVersion());
+        }
+    }
+
+    // EFFECTS: returns a game of 3 pairs kept in the given storage, with history enabled and logging turned off
+    private MatchingGame makeUndoableGame(BoardStorage storage) {
+        MatchingGame game = new MatchingGame(3, storage, MatchingGame.DEFAULT_IDENTITIES, 5);
+        game.setLoggingEnabled(false);
+        game.setHistoryEnabled(true);
+        return game;
+    }
+
+    // MODIFIES: game
+    // EFFECTS: guesses the card at location 1 with a card it does not match, then with the card it does match,
+    //          and returns the location of that card
+    private int playMissThenMatch(MatchingGame game) {
+        int partner = findPartner(game, 1);
+        int miss = partner == 2 ? 3 : 2;
+        assertFalse(game.makeGuess(1, miss));
+        assertTrue(game.makeGuess(1, partner));
+        return partner;
+    }
+
+    // EFFECTS: returns the location of the card that matches the card at locationNum
+    private int findPartner(MatchingGame game, int locationNum) {
+        int partner = locationNum == 1 ? 2 : 1;
+        while (partner == locationNum || !game.getIdentityAt(partner).equals(game.getIdentityAt(locationNum))) {
+            partner++;
+        }
+        return partner;
+    }
+
+    @Test
+    void testGuessAfterUndoForgetsRedo() {
+        testGame.setHistoryEnabled(true);
+        testGame.makeGuess(1, 2);
+        testGame.makeGuess(3, 4);
+        testGame.undo();
+        assertTrue(testGame.canRedo());
+
+        testGame.makeGuess(1, 3);
+        assertFalse(testGame.canRedo());
+        assertEquals(2, testGame.getNumGuesses());
+        testGame.undo();
+        testGame.undo();
+        assertFalse(testGame.canUndo());
+        assertEquals(0, testGame.getNumGuesses());
+    }
+
+    @Test
+    void testOtherChangesForgetHistory() {
+        testGame.setHistoryEnabled(true);
+        testGame.makeGuess(1, 2);
+        testGame.countAnotherGuess();
+        assertFalse(testGame.canUndo());
+
+        testGame.makeGuess(1, 2);
+        testGame.undo();
+        testGame.addCardPair();
+        assertFalse(testGame.canUndo());
+        assertFalse(testGame.canRedo());
+
+        testGame.makeGuess(1, 2);
+        assertFalse(testGame.copy().canUndo());
+        assertTrue(testGame.canUndo());
+    }
+
+    @Test
+    void testCountAnotherGuessForgetsHistory() {
+        testGame.setHistoryEnabled(true);
+        testGame.makeGuess(1, 2);
+        testGame.makeGuess(3, 4);
+        testGame.undo();
+        assertTrue(testGame.canUndo());
+        assertTrue(testGame.canRedo());
+
+        testGame.countAnotherGuess();
+        assertFalse(testGame.canUndo());
+        assertFalse(testGame.canRedo());
+        assertEquals(2, testGame.getNumGuesses());
+    }
+
+    @Test
+    void testMakeBoardArrangementForgetsHistory() {
+        testGame.setHistoryEnabled(true);
+        int miss = findPartner(testGame, 1) == 2 ? 3 : 2;
+        testGame.makeGuess(1, miss);
+        testGame.makeGuess(1, miss);
+        testGame.undo();
+        assertTrue(testGame.canUndo());
+        assertTrue(testGame.canRedo());
+
+        testGame.makeBoardArrangement();
+        assertFalse(testGame.canUndo());
+        assertFalse(testGame.canRedo());
+        assertEquals(1, testGame.getNumGuesses());
+    }
+}
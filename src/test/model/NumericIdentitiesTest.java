@@ -0,0 +1,16 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NumericIdentitiesTest {
+
+    @Test
+    void testIdentityOf() {
+        NumericIdentities numbers = new NumericIdentities();
+        assertEquals("1", numbers.identityOf(0));
+        assertEquals("27", numbers.identityOf(26));
+        assertEquals("1000000", numbers.identityOf(999999));
+    }
+}
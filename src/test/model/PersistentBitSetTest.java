@@ -0,0 +1,48 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentBitSetTest {
+
+    @Test
+    void testOfAndGet() {
+        for (int capacity : new int[] {0, 1, 64, 2048, 2049, 100000}) {
+            PersistentBitSet bits = PersistentBitSet.of(capacity, i -> i % 3 == 0);
+            assertEquals(capacity, bits.capacity());
+            for (int i = 0; i < capacity; i++) {
+                assertEquals(i % 3 == 0, bits.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testWithLeavesOlderVersionsUnchanged() {
+        int capacity = 200000;
+        Random random = new Random(4);
+        BitSet expected = new BitSet();
+        PersistentBitSet first = PersistentBitSet.of(capacity, i -> false);
+        PersistentBitSet bits = first;
+        PersistentBitSet middle = null;
+        BitSet expectedMiddle = null;
+        for (int n = 0; n < 5000; n++) {
+            int i = random.nextInt(capacity);
+            bits = bits.with(i);
+            expected.set(i);
+            if (n == 2500) {
+                middle = bits;
+                expectedMiddle = (BitSet) expected.clone();
+            }
+        }
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(expected.get(i), bits.get(i));
+            assertEquals(expectedMiddle.get(i), middle.get(i));
+            assertFalse(first.get(i));
+        }
+        assertSame(bits, bits.with(expected.nextSetBit(0)));
+    }
+}
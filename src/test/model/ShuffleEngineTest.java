@@ -0,0 +1,42 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShuffleEngineTest {
+
+    @Test
+    void testSameSeedSamePermutation() {
+        int[] ints = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        Integer[] objects = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        int[] again = ints.clone();
+        ShuffleEngine.shuffle(ints, 1, 9, 210);
+        ShuffleEngine.shuffle(objects, 1, 9, 210);
+        ShuffleEngine.shuffle(again, 1, 9, 210);
+
+        assertArrayEquals(again, ints);
+        assertArrayEquals(ints, Arrays.stream(objects).mapToInt(Integer::intValue).toArray());
+        assertEquals(0, ints[0]);
+        assertEquals(9, ints[9]);
+        int[] sorted = ints.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, sorted);
+    }
+
+    @Test
+    void testOtherGenerators() {
+        int[] array = {0, 1, 2, 3};
+        ShuffleEngine.shuffle(array, 0, 4, bound -> 0);
+        assertArrayEquals(new int[] {1, 2, 3, 0}, array);
+
+        int[] random = {0, 1, 2, 3, 4, 5};
+        int[] same = random.clone();
+        ShuffleEngine.shuffle(random, 0, 6, new SplittableRandom(7)::nextInt);
+        ShuffleEngine.shuffle(same, 0, 6, new SplittableRandom(7)::nextInt);
+        assertArrayEquals(same, random);
+    }
+}
@@ -0,0 +1,106 @@
+package persistence;
+
+import model.MatchingGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutosaveServiceTest {
+    private static final String DIRECTORY = "./data/testSaveStore";
+    private SaveStore store;
+    private AutosaveService autosave;
+
+    @BeforeEach
+    void runBefore() {
+        File directory = new File(DIRECTORY);
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        directory.delete();
+        store = new SaveStore(DIRECTORY);
+        autosave = new AutosaveService(store);
+    }
+
+    @Test
+    void testLatestRequestIsWritten() throws IOException {
+        MatchingGame mg = new MatchingGame(50);
+        mg.setLoggingEnabled(false);
+        for (int i = 1; i < 100; i = i + 2) {
+            mg.makeGuess(i, i + 1);
+            autosave.request("autosave", mg.copy());
+        }
+        autosave.flush();
+
+        MatchingGame loaded = store.load("autosave");
+        assertEquals(50, loaded.getNumGuesses());
+        assertEquals(mg.getNumMatches(), loaded.getNumMatches());
+        assertEquals(mg.getUnmatchedLocationNums(), loaded.getUnmatchedLocationNums());
+        assertEquals(1, store.list().size());
+    }
+
+    @Test
+    void testFailureIsReportedByFlush() throws IOException {
+        new FileOutputStream(DIRECTORY).close();
+        autosave.request("autosave", new MatchingGame());
+        try {
+            autosave.flush();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+        autosave.flush();
+        new File(DIRECTORY).delete();
+    }
+
+    @Test
+    void testFlushThenReportsWhenWritten() throws Exception {
+        MatchingGame mg = new MatchingGame(5);
+        autosave.request("game", mg.copy());
+        CompletableFuture<IOException> flushed = new CompletableFuture<>();
+        autosave.flushThen(Runnable::run, flushed::complete);
+
+        assertNull(flushed.get(10, TimeUnit.SECONDS));
+        assertEquals(10, store.load("game").getCardAmount());
+    }
+
+    @Test
+    void testFlushThenReportsFailure() throws Exception {
+        new FileOutputStream(DIRECTORY).close();
+        autosave.request("autosave", new MatchingGame());
+        CompletableFuture<IOException> flushed = new CompletableFuture<>();
+        autosave.flushThen(Runnable::run, flushed::complete);
+
+        assertNotNull(flushed.get(10, TimeUnit.SECONDS));
+        autosave.flush();
+        new File(DIRECTORY).delete();
+    }
+
+    @Test
+    void testGuessesJournalledThenCompacted() throws IOException {
+        autosave = new AutosaveService(store, 4);
+        MatchingGame mg = new MatchingGame(10);
+        mg.setLoggingEnabled(false);
+        autosave.request("game", mg.copy());
+        for (int i = 1; i <= 6; i++) {
+            boolean match = mg.makeGuess(2 * i - 1, 2 * i);
+            autosave.recordGuess("game", mg, 2 * i - 1, 2 * i, match);
+        }
+        autosave.flush();
+
+        assertEquals(4, store.find("game").getNumGuesses());
+        MatchingGame loaded = store.load("game");
+        assertEquals(6, loaded.getNumGuesses());
+        assertEquals(mg.getNumMatches(), loaded.getNumMatches());
+        assertEquals(mg.getUnmatchedLocationNums(), loaded.getUnmatchedLocationNums());
+    }
+}
@@ -0,0 +1,53 @@
+package persistence;
+
+import model.AlphabetIdentities;
+import model.BoardStorage;
+import model.MatchingGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BinaryWriterTest {
+    private static final String DESTINATION = "./data/testWriterBinaryMatchingGame.bin";
+
+    @Test
+    void testWriterInvalidFile() {
+        try {
+            BinaryWriter writer = new BinaryWriter("./data/n\0tAFileName.bin");
+            writer.open();
+            fail("IOException was supposed to be thrown, but wasn't");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testWriterRoundTrip() {
+        try {
+            MatchingGame mg = new MatchingGame(20, BoardStorage.COMPACT, AlphabetIdentities.SYMBOLS, 99);
+            mg.setLoggingEnabled(false);
+            for (int i = 1; i < 40; i = i + 3) {
+                mg.makeGuess(i, i + 1);
+            }
+            BinaryWriter writer = new BinaryWriter(DESTINATION);
+            writer.open();
+            writer.write(mg);
+            writer.close();
+
+            MatchingGame loaded = new BinaryReader(DESTINATION).read();
+            assertEquals(mg.getCardIdentities(), loaded.getCardIdentities());
+            assertEquals(mg.getNumGuesses(), loaded.getNumGuesses());
+            assertEquals(mg.getNumMatches(), loaded.getNumMatches());
+            assertEquals(99, loaded.getSeed());
+            for (int i = 1; i <= 40; i++) {
+                assertEquals(mg.getIdentityAt(i), loaded.getIdentityAt(i));
+                assertEquals(mg.isCardMatched(i), loaded.isCardMatched(i));
+            }
+        } catch (IOException e) {
+            fail("IOException shouldn't have been thrown, but was");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package persistence;
+
+import model.Event;
+import model.EventLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventLogSinkTest {
+    private static final String DIRECTORY = "./data/testEventLogSink";
+    private EventLog log;
+
+    @BeforeEach
+    void runBefore() {
+        File[] files = new File(DIRECTORY).listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        new File(DIRECTORY).delete();
+        log = EventLog.getInstance();
+    }
+
+    // EFFECTS: puts a regular file where the log directory goes, so that the log files cannot be opened
+    private void blockDirectory() throws IOException {
+        Files.write(Paths.get(DIRECTORY), new byte[0]);
+    }
+
+    // EFFECTS: returns the lines of the current log file
+    private List<String> currentLines() throws IOException {
+        return Files.readAllLines(Paths.get(DIRECTORY, EventLogSink.CURRENT_FILE), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testFlushWritesNewEvents() throws IOException {
+        log.logEvent(new Event("before the sink"));
+        EventLogSink sink = new EventLogSink(log, DIRECTORY);
+        sink.flush();
+        log.logEvent(new Event("Guessed {} and {}", 1, 2));
+        log.logEvent(new Event("second"));
+        sink.flush();
+
+        List<String> lines = currentLines();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith(" Guessed 1 and 2"));
+        assertTrue(lines.get(1).endsWith(" second"));
+
+        log.logEvent(new Event("third"));
+        sink.close();
+        assertEquals(3, currentLines().size());
+    }
+
+    @Test
+    void testRotatesBySize() throws IOException {
+        EventLogSink sink = new EventLogSink(log, DIRECTORY, 200, EventLogSink.DEFAULT_MAX_FILE_AGE_MILLIS, 2,
+                EventLogSink.DEFAULT_DRAIN_INTERVAL_MILLIS);
+        for (int i = 0; i < 40; i++) {
+            log.logEvent(new Event("event number {}", i));
+        }
+        sink.close();
+
+        File[] files = new File(DIRECTORY).listFiles();
+        assertEquals(3, files.length);
+        for (File f : files) {
+            assertTrue(f.length() <= 200);
+        }
+        List<String> lines = currentLines();
+        assertTrue(lines.get(lines.size() - 1).endsWith(" event number 39"));
+    }
+
+    @Test
+    void testNotesOverwrittenEvents() throws IOException {
+        EventLogSink sink = new EventLogSink(log, DIRECTORY);
+        for (int i = 0; i < EventLog.CAPACITY + 5; i++) {
+            log.logEvent(new Event("event"));
+        }
+        sink.close();
+
+        List<String> lines = currentLines();
+        assertEquals(EventLog.CAPACITY + 1, lines.size());
+        assertTrue(lines.get(0).endsWith(" 5 events were overwritten before being written"));
+    }
+
+    @Test
+    void testNotesEventsDroppedByFailedWrite() throws IOException {
+        EventLogSink sink = new EventLogSink(log, DIRECTORY);
+        blockDirectory();
+        log.logEvent(new Event("first"));
+        log.logEvent(new Event("second"));
+        try {
+            sink.flush();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+
+        Files.delete(Paths.get(DIRECTORY));
+        log.logEvent(new Event("third"));
+        sink.close();
+        List<String> lines = currentLines();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith(" 2 events could not be written"));
+        assertTrue(lines.get(1).endsWith(" third"));
+    }
+
+    @Test
+    void testFlushReportsFailedBackgroundDrain() throws IOException, InterruptedException {
+        EventLogSink sink = new EventLogSink(log, DIRECTORY, EventLogSink.DEFAULT_MAX_FILE_BYTES,
+                EventLogSink.DEFAULT_MAX_FILE_AGE_MILLIS, EventLogSink.DEFAULT_MAX_FILES, 10);
+        blockDirectory();
+        log.logEvent(new Event("first"));
+        sink.start();
+        Thread.sleep(200);
+
+        Files.delete(Paths.get(DIRECTORY));
+        try {
+            sink.flush();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+        sink.close();
+        List<String> lines = currentLines();
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).endsWith(" 1 events could not be written"));
+    }
+}
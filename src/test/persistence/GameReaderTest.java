@@ -0,0 +1,126 @@
+package persistence;
+
+import model.MatchingGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class GameReaderTest {
+    private static final String BINARY_SAVE = "./data/testWriterBinaryMatchingGame.bin";
+
+    @Test
+    void testReaderJsonSave() {
+        try {
+            GameReader reader = new GameReader("./data/testReaderNewMatchingGame.json");
+            assertFalse(reader.isBinary());
+            MatchingGame mg = reader.read();
+            assertEquals(4, mg.getCardAmount());
+        } catch (IOException e) {
+            fail("Couldn't read from file");
+        }
+    }
+
+    @Test
+    void testReaderBinarySave() {
+        try {
+            MatchingGame mg = new MatchingGame(3);
+            mg.makeGuess(1, 2);
+            BinaryWriter writer = new BinaryWriter(BINARY_SAVE);
+            writer.open();
+            writer.write(mg);
+            writer.close();
+
+            GameReader reader = new GameReader(BINARY_SAVE);
+            assertTrue(reader.isBinary());
+            MatchingGame loaded = reader.read();
+            assertEquals(6, loaded.getCardAmount());
+            assertEquals(1, loaded.getNumGuesses());
+            assertEquals(mg.getUnmatchedLocationNums(), loaded.getUnmatchedLocationNums());
+        } catch (IOException e) {
+            fail("IOException shouldn't have been thrown, but was");
+        }
+    }
+
+    @Test
+    void testReaderUnsupportedVersion() throws IOException {
+        try (FileOutputStream out = new FileOutputStream(BINARY_SAVE)) {
+            out.write(BinaryFormat.MAGIC);
+            out.write(BinaryFormat.VERSION + 1);
+        }
+        try {
+            new GameReader(BINARY_SAVE).read();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReaderTruncatedBinarySave() throws IOException {
+        try (FileOutputStream out = new FileOutputStream(BINARY_SAVE)) {
+            out.write(BinaryFormat.MAGIC);
+            out.write(BinaryFormat.VERSION);
+            out.write(0x80);
+        }
+        try {
+            new GameReader(BINARY_SAVE).read();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReaderPairedBinarySave() throws IOException {
+        writeBinarySave(4, 0, 1, 1, 0, 0);
+        MatchingGame mg = new GameReader(BINARY_SAVE).read();
+        assertEquals(4, mg.getCardAmount());
+        assertEquals("B", mg.getIdentityAt(2));
+    }
+
+    @Test
+    void testReaderOddCardAmountBinarySave() throws IOException {
+        writeBinarySave(3, 0, 1, 0, 0);
+        assertReadFails();
+    }
+
+    @Test
+    void testReaderHugeCardAmountBinarySave() throws IOException {
+        writeBinarySave(0xfe, 0xff, 0xff, 0xff, 0x07);
+        assertReadFails();
+    }
+
+    @Test
+    void testReaderUnpairedBinarySave() throws IOException {
+        writeBinarySave(4, 0, 0, 0, 1, 0);
+        assertReadFails();
+    }
+
+    // EFFECTS: writes a binary save with no guesses, seed 0 and identities A and B in use, followed by the given
+    //          bytes for its card amount, cards and matched bitmap
+    private void writeBinarySave(int... rest) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(BINARY_SAVE)) {
+            out.write(BinaryFormat.MAGIC);
+            out.write(new byte[] {BinaryFormat.VERSION, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 2, 1, 'A', 1, 'B'});
+            for (int b : rest) {
+                out.write(b);
+            }
+        }
+    }
+
+    // EFFECTS: fails unless reading BINARY_SAVE throws IOException
+    private void assertReadFails() {
+        try {
+            new GameReader(BINARY_SAVE).read();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonEmitterTest {
+
+    // EFFECTS: returns the text emitted for {"a": [1, -20, "x"], "b": []} in compact or indented form
+    private String emit(boolean compact) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonEmitter emitter = new JsonEmitter(out, compact);
+        emitter.begin(false);
+        emitter.key("a");
+        emitter.begin(true);
+        emitter.value(1);
+        emitter.value(-20);
+        emitter.value("x");
+        emitter.end(true);
+        emitter.key("b");
+        emitter.begin(true);
+        emitter.end(true);
+        emitter.end(false);
+        emitter.close();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testCompact() throws IOException {
+        assertEquals("{\"a\":[1,-20,\"x\"],\"b\":[]}", emit(true));
+    }
+
+    @Test
+    void testIndented() throws IOException {
+        assertEquals("{\n    \"a\": [\n        1,\n        -20,\n        \"x\"\n    ],\n    \"b\": []\n}", emit(false));
+    }
+
+    @Test
+    void testStringEscapesAndUnicode() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonEmitter emitter = new JsonEmitter(out, true);
+        emitter.value("a\"b\\\n\u2660\ud83d\ude00");
+        emitter.value(Long.MIN_VALUE);
+        emitter.close();
+        assertEquals("\"a\\\"b\\\\\\u000a\u2660\ud83d\ude00\"" + Long.MIN_VALUE,
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
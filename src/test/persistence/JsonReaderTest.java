@@ -1,5 +1,6 @@
 package persistence;
 
+import model.BoardStorage;
 import model.MatchingGame;
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +66,55 @@ public class JsonReaderTest {
             fail("Couldn't read the matching game from file");
         }
     }
+
+    @Test
+    void testReaderMalformedFile() {
+        JsonReader reader = new JsonReader("./data/testReaderMalformedMatchingGame.json");
+        try {
+            reader.read();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReaderOddNumberOfCards() {
+        JsonReader reader = new JsonReader("./data/testReaderOddMatchingGame.json");
+        try {
+            reader.read();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReaderUnpairedIdentity() {
+        JsonReader reader = new JsonReader("./data/testReaderUnpairedMatchingGame.json");
+        try {
+            reader.read();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReaderPartlyDoneMatchingGameCompact() {
+        JsonReader reader = new JsonReader("./data/testReaderPartlyDoneMatchingGame.json", BoardStorage.COMPACT);
+        try {
+            MatchingGame mg = reader.read();
+            assertEquals(6, mg.getCardAmount());
+            assertEquals(new LinkedList<>(Arrays.asList("A", "B", "C")), mg.getCardIdentities());
+            assertEquals(new LinkedList<>(Arrays.asList(1, 5)), mg.getUnmatchedLocationNums());
+            assertEquals("C", mg.findCard(1).getIdentity());
+            assertEquals("B", mg.getMatchedCards().get(0).getIdentity());
+            assertEquals(2, mg.getMatchedCards().get(0).getLocationNum());
+            assertEquals(5, mg.getNumGuesses());
+            assertEquals(2, mg.getNumMatches());
+        } catch (IOException e) {
+            fail("Couldn't read the matching game from file");
+        }
+    }
 }
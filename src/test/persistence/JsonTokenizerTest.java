@@ -0,0 +1,73 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonTokenizerTest {
+
+    // EFFECTS: returns a tokenizer reading the given JSON text
+    private JsonTokenizer tokenize(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new JsonTokenizer(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void testValues() throws IOException {
+        JsonTokenizer tokens = tokenize(" [ \"ab\", -42 , true,false ] ");
+        tokens.expect('[');
+        assertEquals("ab", tokens.nextString());
+        assertTrue(tokens.consumeIf(','));
+        assertEquals(-42, tokens.nextLong());
+        tokens.expect(',');
+        assertTrue(tokens.nextBoolean());
+        tokens.expect(',');
+        assertFalse(tokens.nextBoolean());
+        assertFalse(tokens.consumeIf(','));
+        tokens.expect(']');
+        assertEquals(-1, tokens.peek());
+    }
+
+    @Test
+    void testStringEscapesAndUnicode() throws IOException {
+        JsonTokenizer tokens = tokenize("\"a\\\"b\\n\\u0041\\ud83d\\ude00\u2660\"");
+        assertEquals("a\"b\nA\ud83d\ude00\u2660", tokens.nextString());
+    }
+
+    @Test
+    void testLoneHighSurrogateKeepsFollowingWhitespace() throws IOException {
+        JsonTokenizer tokens = tokenize("\"\\ud83d  x\" 7");
+        String text = tokens.nextString();
+        assertTrue(text.endsWith("  x"));
+        assertEquals(4, text.length());
+        assertEquals(7, tokens.nextLong());
+    }
+
+    @Test
+    void testSkipValue() throws IOException {
+        JsonTokenizer tokens = tokenize("{\"x\": [1, {\"y\": null}, \"]\"], \"z\": 1.5e3} 7");
+        tokens.skipValue();
+        assertEquals(7, tokens.nextLong());
+    }
+
+    @Test
+    void testMalformed() {
+        try {
+            tokenize("\"unterminated").nextString();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+        try {
+            tokenize("1.5").nextLong();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package persistence;
 
+import model.BoardStorage;
 import model.MatchingGame;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.LinkedList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JsonWriterTest {
@@ -49,4 +54,53 @@ public class JsonWriterTest {
             fail("IOException shouldn't have been thrown, but was");
         }
     }
+
+    @Test
+    void testWriterRecordsSeed() {
+        try {
+            MatchingGame mg = new MatchingGame(3, BoardStorage.OBJECTS, MatchingGame.DEFAULT_IDENTITIES, 42);
+            JsonWriter writer = new JsonWriter("./data/testWriterNewMatchingGame.json");
+            writer.open();
+            writer.write(mg);
+            writer.close();
+
+            JsonReader reader = new JsonReader("./data/testWriterNewMatchingGame.json");
+            MatchingGame loaded = reader.read();
+            assertEquals(42, loaded.getSeed());
+            for (int i = 1; i <= 6; i++) {
+                assertEquals(mg.findCard(i).getIdentity(), loaded.findCard(i).getIdentity());
+            }
+        } catch (IOException e) {
+            fail("IOException shouldn't have been thrown, but was");
+        }
+    }
+
+    @Test
+    void testWriterCompactLeavesOutDerivableState() {
+        try {
+            MatchingGame mg = new MatchingGame(2, BoardStorage.COMPACT, MatchingGame.DEFAULT_IDENTITIES, 7);
+            mg.makeGuess(1, 2);
+            JsonWriter writer = new JsonWriter("./data/testWriterNewMatchingGame.json", true);
+            writer.open();
+            writer.write(mg);
+            writer.close();
+
+            String text = new String(Files.readAllBytes(Paths.get("./data/testWriterNewMatchingGame.json")),
+                    StandardCharsets.UTF_8);
+            assertFalse(text.contains("\n") || text.contains(": ") || text.contains(", "));
+            assertFalse(text.contains("card amount") || text.contains("status"));
+            assertFalse(text.contains("unmatched location numbers"));
+
+            MatchingGame loaded = new JsonReader("./data/testWriterNewMatchingGame.json").read();
+            assertEquals(mg.getUnmatchedLocationNums(), loaded.getUnmatchedLocationNums());
+            assertEquals(1, loaded.getNumGuesses());
+            assertEquals(7, loaded.getSeed());
+            for (int i = 1; i <= 4; i++) {
+                assertEquals(mg.getIdentityAt(i), loaded.getIdentityAt(i));
+                assertEquals(mg.isCardMatched(i), loaded.isCardMatched(i));
+            }
+        } catch (IOException e) {
+            fail("IOException shouldn't have been thrown, but was");
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package persistence;
+
+import model.MatchingGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveJournalTest {
+    private static final Path FILE = Paths.get("./data/testMoveJournal.journal");
+    private MoveJournal journal;
+    private MatchingGame played;
+    private MatchingGame saved;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        Files.deleteIfExists(FILE);
+        journal = new MoveJournal(FILE);
+        played = new MatchingGame(4);
+        played.setLoggingEnabled(false);
+        saved = played.copy();
+        saved.setLoggingEnabled(false);
+    }
+
+    // EFFECTS: plays a guess on played and appends it to the journal
+    private void guess(int locationNum1, int locationNum2) throws IOException {
+        boolean match = played.makeGuess(locationNum1, locationNum2);
+        journal.append(played.getNumGuesses(), locationNum1, locationNum2, match);
+    }
+
+    @Test
+    void testReplay() throws IOException {
+        guess(1, 2);
+        guess(3, 4);
+        guess(5, 6);
+        assertEquals(3 * MoveJournal.RECORD_SIZE, Files.size(FILE));
+
+        assertEquals(3, journal.replay(saved));
+        assertEquals(3, saved.getNumGuesses());
+        assertEquals(played.getNumMatches(), saved.getNumMatches());
+        assertEquals(played.getUnmatchedLocationNums(), saved.getUnmatchedLocationNums());
+    }
+
+    @Test
+    void testReplayedGuessesCannotBeUndone() throws IOException {
+        guess(1, 2);
+        guess(3, 4);
+        saved.setHistoryEnabled(true);
+
+        assertEquals(2, journal.replay(saved));
+        assertFalse(saved.canUndo());
+        assertTrue(saved.isHistoryEnabled());
+        saved.makeGuess(5, 6);
+        assertTrue(saved.canUndo());
+    }
+
+    @Test
+    void testReplaySkipsGuessesInSnapshot() throws IOException {
+        guess(1, 2);
+        saved = played.copy();
+        guess(3, 4);
+        assertEquals(1, journal.replay(saved));
+        assertEquals(2, saved.getNumGuesses());
+        assertEquals(0, new MoveJournal(Paths.get("./data/noJournalExists.journal")).replay(saved));
+    }
+
+    @Test
+    void testReplayCutsOffTornRecord() throws IOException {
+        guess(1, 2);
+        try (FileOutputStream out = new FileOutputStream(FILE.toFile(), true)) {
+            out.write(new byte[] {0, 0, 0, 2, 0, 0});
+        }
+        assertEquals(1, journal.replay(saved));
+        assertEquals(MoveJournal.RECORD_SIZE, Files.size(FILE));
+        journal.clear();
+        assertFalse(Files.exists(FILE));
+    }
+
+    @Test
+    void testReplayStopsAtGapInGuessNumbers() throws IOException {
+        guess(1, 2);
+        boolean match = played.makeGuess(3, 4);
+        guess(5, 6);
+        guess(7, 8);
+
+        assertEquals(1, journal.replay(saved));
+        assertEquals(1, saved.getNumGuesses());
+        assertEquals(MoveJournal.RECORD_SIZE, Files.size(FILE));
+        journal.append(2, 3, 4, match);
+        assertEquals(1, journal.replay(saved));
+        assertEquals(2, saved.getNumGuesses());
+    }
+
+    @Test
+    void testReplayRejectsGuessThatDoesNotFollow() throws IOException {
+        journal.append(1, 1, 1, false);
+        try {
+            journal.replay(saved);
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+}
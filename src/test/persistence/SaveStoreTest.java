@@ -0,0 +1,154 @@
+package persistence;
+
+import model.MatchingGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveStoreTest {
+    private static final String DIRECTORY = "./data/testSaveStore";
+    private SaveStore store;
+
+    @BeforeEach
+    void runBefore() {
+        File directory = new File(DIRECTORY);
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        directory.delete();
+        store = new SaveStore(DIRECTORY);
+    }
+
+    @Test
+    void testEmptyStore() throws IOException {
+        assertTrue(store.list().isEmpty());
+        assertNull(store.find("nothing"));
+        try {
+            store.load("nothing");
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testSaveAndLoad() throws IOException {
+        MatchingGame mg = new MatchingGame(5);
+        mg.makeGuess(1, 2);
+        SaveHeader header = store.save("first", mg);
+        assertEquals("first", header.getName());
+        assertEquals(10, header.getCardAmount());
+        assertEquals(1, header.getNumGuesses());
+        assertEquals(mg.getNumMatches(), header.getNumMatches());
+
+        MatchingGame loaded = store.load("first");
+        assertEquals(mg.getSeed(), loaded.getSeed());
+        assertEquals(mg.getUnmatchedLocationNums(), loaded.getUnmatchedLocationNums());
+    }
+
+    @Test
+    void testListReadsIndexOnly() throws IOException, InterruptedException {
+        store.save("older", new MatchingGame(2));
+        Thread.sleep(5);
+        store.save("newer", new MatchingGame(8));
+        store.save("older", new MatchingGame(3));
+
+        List<SaveHeader> saves = new SaveStore(DIRECTORY).list();
+        assertEquals(2, saves.size());
+        assertEquals("older", saves.get(0).getName());
+        assertEquals(6, saves.get(0).getCardAmount());
+        assertEquals("newer", saves.get(1).getName());
+        assertEquals(16, saves.get(1).getCardAmount());
+        assertEquals(3, new File(DIRECTORY).listFiles().length);
+    }
+
+    @Test
+    void testDelete() throws IOException {
+        store.save("gone", new MatchingGame());
+        store.save("kept", new MatchingGame());
+        store.delete("gone");
+        store.delete("never saved");
+
+        SaveStore reopened = new SaveStore(DIRECTORY);
+        assertNull(reopened.find("gone"));
+        assertNotNull(reopened.find("kept"));
+        assertEquals(4, reopened.load("kept").getCardAmount());
+        assertEquals(2, new File(DIRECTORY).listFiles().length);
+    }
+
+    @Test
+    void testJournalledGuessesReplayedUntilNextSave() throws IOException {
+        MatchingGame mg = new MatchingGame(3);
+        store.save("game", mg);
+        boolean match = mg.makeGuess(1, 2);
+        store.appendGuess("game", mg.getNumGuesses(), 1, 2, match);
+
+        MatchingGame loaded = new SaveStore(DIRECTORY).load("game");
+        assertEquals(1, loaded.getNumGuesses());
+        assertEquals(mg.getUnmatchedLocationNums(), loaded.getUnmatchedLocationNums());
+        assertEquals(3, new File(DIRECTORY).listFiles().length);
+
+        store.save("game", mg);
+        assertEquals(2, new File(DIRECTORY).listFiles().length);
+        assertEquals(1, store.load("game").getNumGuesses());
+        try {
+            store.appendGuess("nothing", 1, 1, 2, false);
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testFailedSaveLeavesNoTemporaryFile() throws IOException {
+        File temp = new File(DIRECTORY, "slot-0.bin.tmp");
+        assertTrue(temp.mkdirs());
+        try {
+            store.save("blocked", new MatchingGame());
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+        assertFalse(temp.exists());
+
+        store.save("blocked", new MatchingGame());
+        assertEquals(4, store.load("blocked").getCardAmount());
+        assertEquals(2, new File(DIRECTORY).listFiles().length);
+    }
+
+    @Test
+    void testCorruptIndexIsNotOverwritten() throws IOException {
+        store.save("first", new MatchingGame());
+        store.save("second", new MatchingGame());
+        File index = new File(DIRECTORY, "index.bin");
+        try (RandomAccessFile file = new RandomAccessFile(index, "rw")) {
+            file.setLength(file.length() - 3);
+        }
+        byte[] corrupt = Files.readAllBytes(index.toPath());
+
+        SaveStore reopened = new SaveStore(DIRECTORY);
+        try {
+            reopened.list();
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+        try {
+            reopened.save("third", new MatchingGame());
+            fail("IOException was expected to be thrown, but was not");
+        } catch (IOException e) {
+            // expected
+        }
+        assertArrayEquals(corrupt, Files.readAllBytes(index.toPath()));
+    }
+}
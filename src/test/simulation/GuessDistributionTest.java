@@ -0,0 +1,46 @@
+package simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GuessDistributionTest {
+
+    private GuessDistribution testDistribution;
+
+    @BeforeEach
+    void runBefore() {
+        testDistribution = new GuessDistribution();
+        testDistribution.add(3);
+        testDistribution.add(5);
+        testDistribution.add(5);
+        testDistribution.add(40);
+    }
+
+    @Test
+    void testAdd() {
+        assertEquals(4, testDistribution.getNumGames());
+        assertEquals(1, testDistribution.getCount(3));
+        assertEquals(2, testDistribution.getCount(5));
+        assertEquals(1, testDistribution.getCount(40));
+        assertEquals(0, testDistribution.getCount(41));
+        assertEquals(13.25, testDistribution.getMean());
+        assertEquals(3, testDistribution.getMin());
+        assertEquals(40, testDistribution.getMax());
+        assertEquals(5, testDistribution.getPercentile(0.5));
+        assertEquals(40, testDistribution.getPercentile(1.0));
+    }
+
+    @Test
+    void testMerge() {
+        GuessDistribution other = new GuessDistribution();
+        other.add(2);
+        other.add(100);
+        testDistribution.merge(other);
+        assertEquals(6, testDistribution.getNumGames());
+        assertEquals(2, testDistribution.getMin());
+        assertEquals(100, testDistribution.getMax());
+        assertEquals(1, testDistribution.getCount(100));
+    }
+}
@@ -0,0 +1,49 @@
+package simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+
+    @Test
+    void testPerfectMemoryFinishesWithinBounds() {
+        SimulationEngine engine = new SimulationEngine(PerfectMemoryStrategy::new, 1);
+        GuessDistribution d = engine.run(10, 2000);
+        assertEquals(2000, d.getNumGames());
+        assertTrue(d.getMin() >= 10);
+        assertTrue(d.getMax() <= 2 * 10 - 1);
+    }
+
+    @Test
+    void testRandomFinishes() {
+        SimulationEngine engine = new SimulationEngine(RandomStrategy::new, 2);
+        GuessDistribution d = engine.run(4, 500);
+        assertEquals(500, d.getNumGames());
+        assertTrue(d.getMin() >= 4);
+    }
+
+    @Test
+    void testMemoryBeatsNoMemory() {
+        GuessDistribution random = new SimulationEngine(RandomStrategy::new, 3).run(8, 2000);
+        GuessDistribution lru = new SimulationEngine(() -> new MemoryStrategy(4), 3).run(8, 2000);
+        GuessDistribution perfect = new SimulationEngine(PerfectMemoryStrategy::new, 3).run(8, 2000);
+        assertTrue(perfect.getMean() <= lru.getMean());
+        assertTrue(lru.getMean() < random.getMean());
+    }
+
+    @Test
+    void testSameSeedSameGames() {
+        SimulationEngine engine = new SimulationEngine(() -> new MemoryStrategy(3), 4);
+        assertEquals(engine.playGame(12, 17), engine.playGame(12, 17));
+    }
+
+    @Test
+    void testLargeMemoryPlaysLikePerfectMemory() {
+        SimulationEngine lru = new SimulationEngine(() -> new MemoryStrategy(1000), 5);
+        SimulationEngine perfect = new SimulationEngine(PerfectMemoryStrategy::new, 5);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(perfect.playGame(20, i), lru.playGame(20, i));
+        }
+    }
+}